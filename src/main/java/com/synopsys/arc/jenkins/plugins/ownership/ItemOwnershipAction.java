@@ -23,9 +23,26 @@
  */
 package com.synopsys.arc.jenkins.plugins.ownership;
 
+import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
+import hudson.Util;
 import hudson.model.Actionable;
+import hudson.model.AutoCompletionCandidates;
+import hudson.model.Descriptor;
+import hudson.model.User;
+import hudson.security.AccessControlled;
 import hudson.security.Permission;
+import hudson.util.FormValidation;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.ownership.util.users.PossibleOwnersSearch;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
+import org.kohsuke.stapler.QueryParameter;
 
 /**
  * Abstract class for ownership actions, which describes item at the floating box.
@@ -70,4 +87,119 @@ public abstract class ItemOwnershipAction<TObjectType extends Actionable>
     public OwnershipDescription getOwnership() {
         return helper().getOwnershipDescription(describedItem);
     } 
+    
+    /**
+     * Retrieves a page of possible owners of the item.
+     * Autocompletion returns only the first page, this endpoint allows browsing the rest.
+     * @param q Prefix of the user ID or full name. Empty string matches all users
+     * @param offset Offset returned by the previous page, {@code 0} for the first page
+     * @param limit Maximum number of users in the page
+     * @return JSON object with {@code users}, {@code nextOffset} and {@code hasMore} fields
+     * @since TODO
+     */
+    @Restricted(NoExternalUse.class)
+    public HttpResponse doPossibleOwners(@QueryParameter String q, 
+            @QueryParameter int offset, @QueryParameter int limit) {
+        PossibleOwnersSearch.Page page = searchPossibleOwners(q, offset, limit);
+        
+        JSONArray users = new JSONArray();
+        for (User user : page.getUsers()) {
+            JSONObject entry = new JSONObject();
+            entry.put("id", user.getId());
+            entry.put("displayName", user.getDisplayName());
+            users.add(entry);
+        }
+        JSONObject res = new JSONObject();
+        res.put("users", users);
+        res.put("nextOffset", page.getNextOffset());
+        res.put("hasMore", page.isHasMore());
+        return HttpResponses.okJSON(res);
+    }
+    
+    /**
+     * Provides autocompletion of owner IDs in the ownership forms.
+     * Only the first page of possible owners is being returned.
+     * @param value Current value of the field
+     * @return Autocompletion candidates
+     * @since TODO
+     */
+    @Restricted(NoExternalUse.class)
+    public AutoCompletionCandidates doAutoCompleteOwner(@QueryParameter String value) {
+        AutoCompletionCandidates candidates = new AutoCompletionCandidates();
+        for (User user : searchPossibleOwners(value, 0, PossibleOwnersSearch.DEFAULT_LIMIT).getUsers()) {
+            candidates.add(user.getId());
+        }
+        return candidates;
+    }
+    
+    /**
+     * Validates the primary owner in the ownership forms.
+     * @param value ID of the user
+     * @return Validation result
+     * @since TODO
+     */
+    @Restricted(NoExternalUse.class)
+    public FormValidation doCheckOwner(@QueryParameter String value) {
+        final AccessControlled target = getAccessControlledTarget();
+        target.checkPermission(getOwnerPermission());
+        final String userId = Util.fixEmptyAndTrim(value);
+        if (userId == null) {
+            return FormValidation.error(Messages.ItemOwnershipAction_MissingPrimaryOwner());
+        }
+        if (!isPossibleOwner(target, userId)) {
+            return FormValidation.error(Messages.ItemOwnershipAction_NotPossibleOwner(userId));
+        }
+        return FormValidation.ok();
+    }
+    
+    /**
+     * Checks that the primary owner of the submitted ownership is a possible owner of the item.
+     * The current primary owner is accepted even if the user is not a possible owner anymore,
+     * so that secondary owners can be still modified.
+     * @param descr Submitted ownership
+     * @throws Descriptor.FormException The primary owner is missing or cannot own the item
+     * @since TODO
+     */
+    protected void checkPossibleOwner(@Nonnull OwnershipDescription descr) throws Descriptor.FormException {
+        if (!descr.isOwnershipEnabled()) {
+            return;
+        }
+        final String userId = Util.fixEmptyAndTrim(descr.getPrimaryOwnerId());
+        if (userId == null) {
+            throw new Descriptor.FormException(Messages.ItemOwnershipAction_MissingPrimaryOwner(), "primaryOwner");
+        }
+        final OwnershipDescription current = getOwnership();
+        if (current.isOwnershipEnabled() && userId.equals(current.getPrimaryOwnerId())) {
+            return;
+        }
+        if (!isPossibleOwner(getAccessControlledTarget(), userId)) {
+            throw new Descriptor.FormException(Messages.ItemOwnershipAction_NotPossibleOwner(userId), "primaryOwner");
+        }
+    }
+    
+    private boolean isPossibleOwner(@Nonnull AccessControlled target, @Nonnull String userId) {
+        return PossibleOwnersSearch.get().isPossibleOwner(target, getPossibleOwnersPermission(), userId);
+    }
+    
+    @Nonnull
+    private PossibleOwnersSearch.Page searchPossibleOwners(@CheckForNull String query, int offset, int limit) {
+        final AccessControlled target = getAccessControlledTarget();
+        target.checkPermission(getOwnerPermission());
+        return PossibleOwnersSearch.get().search(target, getPossibleOwnersPermission(), query, offset, limit);
+    }
+    
+    @Nonnull
+    private AccessControlled getAccessControlledTarget() {
+        return describedItem instanceof AccessControlled ? (AccessControlled) describedItem : Jenkins.get();
+    }
+    
+    @CheckForNull
+    @SuppressWarnings("unchecked")
+    private Permission getPossibleOwnersPermission() {
+        IOwnershipHelper<TObjectType> helper = helper();
+        if (helper instanceof AbstractOwnershipHelper) {
+            return ((AbstractOwnershipHelper<TObjectType>) helper).getPossibleOwnersPermission(describedItem);
+        }
+        return null;
+    }
 }
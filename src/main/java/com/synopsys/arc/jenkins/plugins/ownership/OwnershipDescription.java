@@ -35,18 +35,24 @@ import hudson.model.User;
 import hudson.security.ACL;
 import hudson.security.AccessControlled;
 import hudson.security.Permission;
+import hudson.security.SecurityRealm;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import jenkins.model.IdStrategy;
 import jenkins.model.Jenkins;
 import net.sf.json.JSONObject;
 import org.acegisecurity.AccessDeniedException;
@@ -66,11 +72,22 @@ public class OwnershipDescription implements Serializable {
 
     private static final Logger LOGGER = Logger.getLogger(OwnershipDescription.class.getName());
 
+    /**
+     * Pool of shared descriptions, see {@link #intern(OwnershipDescription)}.
+     * Keys are referenced by the shared descriptions and values are weak references, 
+     * so unused descriptions are being collected.
+     */
+    private static final Map<InternKey, WeakReference<OwnershipDescription>> INTERNED = new WeakHashMap<>();
+    
     /**
      * Disabled description, which means that ownership is disabled
      */
     public static final OwnershipDescription DISABLED_DESCR = new OwnershipDescription(false, "");
     
+    static {
+        DISABLED_DESCR.interned = true;
+    }
+    
     /**
      * Indicates if ownership is enabled
      */
@@ -88,6 +105,24 @@ public class OwnershipDescription implements Serializable {
      */
     @Whitelisted
     Set<String> coownersIds;
+    
+    /**
+     * Indicates that the instance is shared, hence it must not be modified.
+     */
+    private transient boolean interned;
+    
+    /**
+     * Key of the shared instance in {@link #INTERNED}, it keeps the pool entry alive while the instance is used.
+     */
+    @CheckForNull
+    private transient InternKey internKey;
+    
+    /**
+     * Secondary owners lookup for the current ID strategies.
+     * Lazily created and recreated on ID strategy changes.
+     */
+    @CheckForNull
+    private transient volatile SecondaryOwnersLookup secondaryOwnersLookup;
 
     /**
      * Constructor.
@@ -113,10 +148,21 @@ public class OwnershipDescription implements Serializable {
         this.coownersIds =  secondaryOwnerIds != null ? new TreeSet<>(secondaryOwnerIds) : new TreeSet<String>();
     }
     
+    /**
+     * Copies the ownership info from another description.
+     * @param descr Source description
+     * @throws UnsupportedOperationException The description is shared, see {@link #intern(OwnershipDescription)}
+     * @deprecated Descriptions may be shared between items. Create a new instance instead
+     */
+    @Deprecated
     public void assign(@Nonnull OwnershipDescription descr) {
+        if (interned) {
+            throw new UnsupportedOperationException("Cannot modify the shared ownership description " + this);
+        }
         this.ownershipEnabled = descr.ownershipEnabled;
         this.primaryOwnerId = descr.primaryOwnerId;
         this.coownersIds = descr.coownersIds;
+        this.secondaryOwnersLookup = null;
     }
 
     @Override
@@ -181,13 +227,17 @@ public class OwnershipDescription implements Serializable {
     
     /**
      * Gets list of secondary owners.
-     * @return Collection of secondary owners
+     * @return Collection of secondary owners.
+     *         The collection is unmodifiable for shared instances, see {@link #intern(OwnershipDescription)}
      * @since 0.9
      */
     @Nonnull
     @Whitelisted
     public Set<String> getSecondaryOwnerIds() {
-        return coownersIds;
+        if (coownersIds == null) { // Can happen in old configurations
+            return Collections.emptySet();
+        }
+        return interned ? Collections.unmodifiableSet(coownersIds) : coownersIds;
     }
     
     /**
@@ -226,7 +276,7 @@ public class OwnershipDescription implements Serializable {
                 addUser(secondaryOwnerIds, coOwners);
             }
         }   
-        return new OwnershipDescription(true, primaryOwnerId, secondaryOwnerIds);
+        return intern(new OwnershipDescription(true, primaryOwnerId, secondaryOwnerIds));
     }
     
     private static void addUser(Set<String> target, JSONObject userObj) throws Descriptor.FormException {
@@ -252,13 +302,28 @@ public class OwnershipDescription implements Serializable {
             return true;
         }
         if (includeSecondaryOwners) {
-            Set<String> coowners = new TreeSet<>(new IdStrategyComparator());
-            coowners.addAll(coownersIds);
-            return coowners.contains(user.getId());
+            return getSecondaryOwnersLookup().contains(user.getId());
         }
         return false;
     }
     
+    @Nonnull
+    private Set<String> getSecondaryOwnersLookup() {
+        final SecurityRealm realm = Jenkins.get().getSecurityRealm();
+        final IdStrategy userIdStrategy = realm.getUserIdStrategy();
+        final IdStrategy groupIdStrategy = realm.getGroupIdStrategy();
+        if (!interned) {
+            // Secondary owners of non-shared instances may be modified via getSecondaryOwnerIds()
+            return new SecondaryOwnersLookup(userIdStrategy, groupIdStrategy, getSecondaryOwnerIds()).ids;
+        }
+        SecondaryOwnersLookup lookup = secondaryOwnersLookup;
+        if (lookup == null || !lookup.isApplicable(userIdStrategy, groupIdStrategy)) {
+            lookup = new SecondaryOwnersLookup(userIdStrategy, groupIdStrategy, coownersIds);
+            secondaryOwnersLookup = lookup;
+        }
+        return lookup.ids;
+    }
+    
     @Whitelisted
     public boolean hasPrimaryOwner() {
         return ownershipEnabled && getPrimaryOwner() != null;
@@ -269,7 +334,9 @@ public class OwnershipDescription implements Serializable {
      * @return {@code true} if the user is a primary owner
      */
     public boolean isPrimaryOwner(@CheckForNull User user) {
-        return user != null && user == getPrimaryOwner();
+        // User IDs are resolved by the ID strategy, so there is no need to look up the owner
+        return user != null && ownershipEnabled && primaryOwnerId != null
+                && User.idStrategy().equals(primaryOwnerId, user.getId());
     }
     
     /**
@@ -316,7 +383,7 @@ public class OwnershipDescription implements Serializable {
      */
     @Deprecated
     public @Nonnull Set<String> getCoOwnerIds() {
-        return coownersIds;
+        return getSecondaryOwnerIds();
     }
     
     /**
@@ -380,7 +447,84 @@ public class OwnershipDescription implements Serializable {
     
     protected Object readResolve() throws ObjectStreamException {
         checkUnsecuredConfiguration();
-        return this;
+        return intern(this);
+    }
+    
+    /**
+     * Gets a shared instance of the ownership description.
+     * Many items usually have the same ownership, so sharing of descriptions
+     * makes the memory footprint depend on the number of distinct ownership configurations
+     * instead of the number of items.
+     * Shared instances must not be modified.
+     * @param descr Ownership description
+     * @return Shared description, which is equal to the specified one.
+     *         Disabled descriptions are shared by value as well, 
+     *         so that the stored owners are retained. 
+     *         Disabled descriptions without owners are being replaced by {@link #DISABLED_DESCR}.
+     * @since TODO
+     */
+    @Nonnull
+    public static OwnershipDescription intern(@Nonnull OwnershipDescription descr) {
+        if (descr.interned) {
+            return descr;
+        }
+        if (!descr.ownershipEnabled && Util.fixEmpty(descr.primaryOwnerId) == null 
+                && (descr.coownersIds == null || descr.coownersIds.isEmpty())) {
+            return DISABLED_DESCR;
+        }
+        
+        // The argument may be still modified by the caller, so a copy is being shared.
+        // It also replaces missing secondary owners in old configurations
+        final OwnershipDescription copy = new OwnershipDescription(descr.ownershipEnabled, descr.primaryOwnerId, descr.coownersIds);
+        // equals() treats all disabled descriptions as equal ones, hence the pool uses its own key
+        final InternKey key = new InternKey(copy);
+        synchronized (INTERNED) {
+            final WeakReference<OwnershipDescription> ref = INTERNED.get(key);
+            final OwnershipDescription existing = ref != null ? ref.get() : null;
+            if (existing != null) {
+                return existing;
+            }
+            copy.interned = true;
+            copy.internKey = key;
+            INTERNED.put(key, new WeakReference<>(copy));
+            return copy;
+        }
+    }
+    
+    /**
+     * Key of {@link #INTERNED}, which compares all fields of the description.
+     */
+    private static final class InternKey {
+        
+        private final boolean ownershipEnabled;
+        @CheckForNull
+        private final String primaryOwnerId;
+        private final Set<String> coownersIds;
+
+        InternKey(@Nonnull OwnershipDescription descr) {
+            this.ownershipEnabled = descr.ownershipEnabled;
+            this.primaryOwnerId = descr.primaryOwnerId;
+            this.coownersIds = descr.coownersIds;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ownershipEnabled, primaryOwnerId, coownersIds);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InternKey)) {
+                return false;
+            }
+            final InternKey other = (InternKey) obj;
+            return ownershipEnabled == other.ownershipEnabled 
+                    && Objects.equals(primaryOwnerId, other.primaryOwnerId) 
+                    && Objects.equals(coownersIds, other.coownersIds);
+        }
     }
 
     /**
@@ -447,4 +591,31 @@ public class OwnershipDescription implements Serializable {
     public static boolean isEnabled(OwnershipDescription descr) {
         return descr != null && descr.ownershipEnabled;
     }   
+    
+    /**
+     * Set of secondary owner IDs, which uses ID strategies for comparison.
+     * The set is immutable, so lookups do not require allocations.
+     */
+    private static final class SecondaryOwnersLookup {
+        
+        private final IdStrategy userIdStrategy;
+        private final IdStrategy groupIdStrategy;
+        private final Set<String> ids;
+
+        SecondaryOwnersLookup(@Nonnull IdStrategy userIdStrategy, @Nonnull IdStrategy groupIdStrategy, 
+                @CheckForNull Set<String> secondaryOwnerIds) {
+            this.userIdStrategy = userIdStrategy;
+            this.groupIdStrategy = groupIdStrategy;
+            final Set<String> lookup = new TreeSet<>(new IdStrategyComparator(userIdStrategy, groupIdStrategy));
+            if (secondaryOwnerIds != null) {
+                lookup.addAll(secondaryOwnerIds);
+            }
+            this.ids = Collections.unmodifiableSet(lookup);
+        }
+        
+        boolean isApplicable(@Nonnull IdStrategy userIdStrategy, @Nonnull IdStrategy groupIdStrategy) {
+            return (this.userIdStrategy == userIdStrategy || this.userIdStrategy.equals(userIdStrategy))
+                    && (this.groupIdStrategy == groupIdStrategy || this.groupIdStrategy.equals(groupIdStrategy));
+        }
+    }
 }
@@ -28,8 +28,10 @@ import com.synopsys.arc.jenkins.plugins.ownership.extensions.OwnershipLayoutForm
 import com.synopsys.arc.jenkins.plugins.ownership.extensions.item_ownership_policy.AssignCreatorPolicy;
 import com.synopsys.arc.jenkins.plugins.ownership.extensions.item_ownership_policy.DropOwnershipPolicy;
 import com.synopsys.arc.jenkins.plugins.ownership.security.itemspecific.ItemSpecificSecurity;
+import com.synopsys.arc.jenkins.plugins.ownership.util.ui.AsyncSummaryBox;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.ExtensionList;
+import hudson.ExtensionListListener;
 import hudson.Plugin;
 import hudson.Util;
 import hudson.model.Descriptor;
@@ -43,14 +45,25 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.servlet.ServletException;
 import jenkins.model.Jenkins;
 import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.ownership.model.runs.RunOwnershipBackfill;
+import org.jenkinsci.plugins.ownership.util.mail.MailOptions;
+import org.jenkinsci.plugins.ownership.util.mail.OwnershipMailHelper;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
 import org.kohsuke.stapler.QueryParameter;
 import org.kohsuke.stapler.StaplerRequest;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
 
 /**
  * Contains global actions and configurations.
@@ -80,6 +93,14 @@ public class OwnershipPlugin extends Plugin {
     private ItemSpecificSecurity defaultJobsSecurity;
     private OwnershipPluginConfiguration configuration;
     
+    /**
+     * Resolver, which corresponds to {@link #mailResolverClassName}.
+     * {@code null} if it has not been looked up since the last configuration or extension list change.
+     */
+    @CheckForNull
+    private transient volatile MailResolverHandle mailResolverHandle;
+    private transient final AtomicLong mailResolverFallbacks = new AtomicLong();
+    
     /**
      * @deprecated Use {@link #getInstance()} instead
      */
@@ -104,11 +125,18 @@ public class OwnershipPlugin extends Plugin {
 	load();
         reinitActionsList();
 	Jenkins.get().getActions().addAll(pluginActions);
+        MailAddressResolver.all().addListener(new ExtensionListListener() {
+            @Override
+            public void onChange() {
+                mailResolverHandle = null;
+            }
+        });
     }
 
     @Override
     public void load() throws IOException {
         super.load();
+        mailResolverHandle = null;
         
         // Migration to 1.5.0: Check ItemOwnershipPolicy
         if (configuration == null) {
@@ -167,6 +195,7 @@ public class OwnershipPlugin extends Plugin {
             OwnershipPluginConfiguration configuration) throws IOException {
         this.requiresConfigureRights = requiresConfigureRights;
         this.mailResolverClassName = mailResolverClassName;
+        this.mailResolverHandle = null;
         this.defaultJobsSecurity = defaultJobsSecurity;
         this.configuration = configuration;
         
@@ -190,6 +219,7 @@ public class OwnershipPlugin extends Plugin {
         } else {
             mailResolverClassName = null;
         }
+        mailResolverHandle = null;
         
         if (formData.containsKey("defaultJobsSecurity")) {
             this.defaultJobsSecurity = getItemSpecificDescriptor().newInstance(req, formData.getJSONObject("defaultJobsSecurity"));
@@ -244,6 +274,45 @@ public class OwnershipPlugin extends Plugin {
         return FormValidation.ok();
     }
     
+    /**
+     * Redirects to the mailto URL of a contact link.
+     * Used when {@link MailOptions#isLazyMailToLinks()} is enabled.
+     * @param mode Contact mode
+     * @param target Reference to the item
+     * @return Redirect to the mailto URL or 404 if the link is not available
+     * @since TODO
+     */
+    @Restricted(NoExternalUse.class)
+    public HttpResponse doMailTo(@QueryParameter String mode, @QueryParameter String target) {
+        final String mailToURL = OwnershipMailHelper.resolveLazyMailToURL(mode, target);
+        return mailToURL != null ? HttpResponses.redirectTo(mailToURL) : HttpResponses.notFound();
+    }
+    
+    /**
+     * Serves data of ownership summary boxes, which are loaded asynchronously.
+     * @param req Request
+     * @param rsp Response
+     * @param target Reference to the item
+     * @throws IOException Failed to write the response
+     * @since TODO
+     */
+    @Restricted(NoExternalUse.class)
+    public void doSummary(StaplerRequest2 req, StaplerResponse2 rsp, @QueryParameter String target) 
+            throws IOException {
+        AsyncSummaryBox.serve(req, rsp, target);
+    }
+    
+    /**
+     * Gets the backfill of ownership actions for historical builds.
+     * Available at {@code /plugin/ownership/runOwnershipBackfill}.
+     * @return Backfill task
+     * @since TODO
+     */
+    @Restricted(NoExternalUse.class)
+    public RunOwnershipBackfill getRunOwnershipBackfill() {
+        return RunOwnershipBackfill.get();
+    }
+    
     /**
      * Resolves e-mail using resolvers and global configuration.
      * @param user A user to be used
@@ -251,27 +320,36 @@ public class OwnershipPlugin extends Plugin {
      */
     @CheckForNull
     public String resolveEmail(User user) {
-        try {
-            if (hasMailResolverRestriction()) {
-                if (mailResolverClassName.equals(FAST_RESOLVER_ID)) {
-                    return MailAddressResolver.resolveFast(user);
-                } else {
-                    Class<MailAddressResolver> resolverClass = (Class<MailAddressResolver>)Class.forName(mailResolverClassName);
-                    MailAddressResolver res = MailAddressResolver.all().get(resolverClass);
-                    if (res != null) {
-                        return res.findMailAddressFor(user);
-                    }
-                }
-            } 
-        } catch (ClassNotFoundException ex) {
-            // Do nothing - fallback do default handler
-        }
-        //TODO: ClassCastException (bug)
-        //TODO: methods above should log errors
+        final String resolverClassName = mailResolverClassName;
+        if (resolverClassName != null) {
+            if (resolverClassName.equals(FAST_RESOLVER_ID)) {
+                return MailAddressResolver.resolveFast(user);
+            }
+            
+            MailResolverHandle handle = mailResolverHandle;
+            if (handle == null || !handle.className.equals(resolverClassName)) {
+                handle = MailResolverHandle.lookup(resolverClassName);
+                mailResolverHandle = handle;
+            }
+            if (handle.resolver != null) {
+                return handle.resolver.findMailAddressFor(user);
+            }
+            mailResolverFallbacks.incrementAndGet();
+        } 
         
         return MailAddressResolver.resolve(user);
     }
     
+    /**
+     * Gets the number of e-mail resolutions, which fell back to the default resolver chain,
+     * because the configured resolver is not available.
+     * @return Number of fallbacks since the start
+     * @since TODO
+     */
+    public long getMailResolverFallbackCount() {
+        return mailResolverFallbacks.get();
+    }
+    
     @Nonnull
     public Collection<String> getPossibleMailResolvers() {
         ExtensionList<MailAddressResolver> extensions = MailAddressResolver.all();
@@ -286,4 +364,32 @@ public class OwnershipPlugin extends Plugin {
     public static Logger getLogger() {
         return LOGGER;
     }
+    
+    /**
+     * Cached lookup result of the configured {@link MailAddressResolver}.
+     */
+    private static final class MailResolverHandle {
+        
+        private final String className;
+        @CheckForNull
+        private final MailAddressResolver resolver;
+
+        private MailResolverHandle(@Nonnull String className, @CheckForNull MailAddressResolver resolver) {
+            this.className = className;
+            this.resolver = resolver;
+        }
+        
+        @Nonnull
+        static MailResolverHandle lookup(@Nonnull String className) {
+            // Both names are accepted, getPossibleMailResolvers() offers canonical names
+            for (MailAddressResolver resolver : MailAddressResolver.all()) {
+                final Class<?> clazz = resolver.getClass();
+                if (className.equals(clazz.getName()) || className.equals(clazz.getCanonicalName())) {
+                    return new MailResolverHandle(className, resolver);
+                }
+            }
+            LOGGER.log(Level.WARNING, "Mail resolver {0} is not available, the default resolvers will be used", className);
+            return new MailResolverHandle(className, null);
+        }
+    }
 }
@@ -25,14 +25,19 @@
 package com.synopsys.arc.jenkins.plugins.ownership;
 
 import com.synopsys.arc.jenkins.plugins.ownership.extensions.ItemOwnershipPolicy;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.OwnerNodeProperty;
 import org.jenkinsci.plugins.ownership.util.mail.MailOptions;
 import hudson.Extension;
 import hudson.model.Describable;
 import hudson.model.Descriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import org.jenkinsci.plugins.ownership.config.DisplayOptions;
 import org.jenkinsci.plugins.ownership.config.InheritanceOptions;
+import org.jenkinsci.plugins.ownership.config.NodeOwnershipRule;
 import org.jenkinsci.plugins.ownership.model.runs.OwnershipRunListener;
 import org.jenkinsci.plugins.ownership.util.environment.EnvSetupOptions;
 import org.kohsuke.stapler.DataBoundConstructor;
@@ -56,6 +61,12 @@ public class OwnershipPluginConfiguration
      * @since 0.6
      */
     private final @CheckForNull EnvSetupOptions globalEnvSetupOptions;
+    
+    /**
+     * Ownership of nodes without {@link OwnerNodeProperty}.
+     * @since TODO
+     */
+    private final @CheckForNull List<NodeOwnershipRule> nodeOwnershipRules;
 
     @Deprecated
     public OwnershipPluginConfiguration(@Nonnull ItemOwnershipPolicy itemOwnershipPolicy, 
@@ -64,15 +75,25 @@ public class OwnershipPluginConfiguration
         this(itemOwnershipPolicy, mailOptions, globalEnvSetupOptions, displayOptions, InheritanceOptions.DEFAULT);
     }
     
-    @DataBoundConstructor
+    @Deprecated
     public OwnershipPluginConfiguration(@Nonnull ItemOwnershipPolicy itemOwnershipPolicy, 
             @Nonnull MailOptions mailOptions, EnvSetupOptions globalEnvSetupOptions, 
             @Nonnull DisplayOptions displayOptions, @Nonnull InheritanceOptions inheritanceOptions) {
+        this(itemOwnershipPolicy, mailOptions, globalEnvSetupOptions, displayOptions, inheritanceOptions, null);
+    }
+    
+    @DataBoundConstructor
+    public OwnershipPluginConfiguration(@Nonnull ItemOwnershipPolicy itemOwnershipPolicy, 
+            @Nonnull MailOptions mailOptions, EnvSetupOptions globalEnvSetupOptions, 
+            @Nonnull DisplayOptions displayOptions, @Nonnull InheritanceOptions inheritanceOptions,
+            @CheckForNull List<NodeOwnershipRule> nodeOwnershipRules) {
         this.itemOwnershipPolicy = itemOwnershipPolicy;
         this.mailOptions = mailOptions;
         this.globalEnvSetupOptions = globalEnvSetupOptions;
         this.displayOptions = displayOptions;
         this.inheritanceOptions = inheritanceOptions;
+        this.nodeOwnershipRules = nodeOwnershipRules != null && !nodeOwnershipRules.isEmpty()
+                ? new ArrayList<>(nodeOwnershipRules) : null;
     }
     
     @Deprecated
@@ -108,6 +129,17 @@ public class OwnershipPluginConfiguration
         return inheritanceOptions != null ? inheritanceOptions : InheritanceOptions.DEFAULT;
     }
     
+    /**
+     * Gets rules, which define ownership of nodes without {@link OwnerNodeProperty}.
+     * @return Unmodifiable list of rules
+     * @since TODO
+     */
+    public @Nonnull List<NodeOwnershipRule> getNodeOwnershipRules() {
+        return nodeOwnershipRules != null 
+                ? Collections.unmodifiableList(nodeOwnershipRules) 
+                : Collections.<NodeOwnershipRule>emptyList();
+    }
+    
     /**
      * @return Global environment inject options. Null - global setup is disabled
      * @since 0.6
@@ -32,9 +32,16 @@ import hudson.model.Item;
 import hudson.model.User;
 import hudson.views.ListViewColumnDescriptor;
 import hudson.views.ListViewColumn;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.Stapler;
+import org.kohsuke.stapler.StaplerRequest2;
 
 /**
  * Provides Ownership column for the list view.
@@ -43,6 +50,11 @@ import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
  */
 public class JobOwnerColumn extends ListViewColumn {
 
+    /**
+     * Name of the request attribute, which stores ownership entries resolved within the request.
+     */
+    private static final String PREFETCH_ATTRIBUTE = JobOwnerColumn.class.getName() + ".prefetch";
+    
     @DataBoundConstructor
     public JobOwnerColumn() {
         super();
@@ -50,25 +62,115 @@ public class JobOwnerColumn extends ListViewColumn {
 
     @Nonnull
     public String getJobOwner(Item item) {
-        final OwnershipDescription description = getDescription(item);
-        return description != null ? description.getPrimaryOwnerId() : User.getUnknown().getId();
+        return getOwnerEntry(item).getOwnerId();
     }
     
     public boolean isOwnerExists(Item item) {
-        final OwnershipDescription description = getDescription(item);
-        return description != null ? description.hasPrimaryOwner(): false;
+        return getOwnerEntry(item).isOwnerExists();
     }
     
-    @CheckForNull
-    private OwnershipDescription getDescription(Item item) {
-        AbstractOwnershipHelper<Item> helper = OwnershipHelperLocator.locate(item);
-        if (helper == null) {
-            // We cannot retrieve helper for the object => keep moving
-            return null;
+    /**
+     * Gets the ownership entry to be displayed in the column.
+     * Entries are memoized within the current request, 
+     * so that the cells of the same row and the owners shared by rows are resolved once.
+     * @param item Item
+     * @return Ownership entry
+     * @since TODO
+     */
+    @Nonnull
+    @Restricted(NoExternalUse.class)
+    public OwnerEntry getOwnerEntry(@Nonnull Item item) {
+        final StaplerRequest2 req = Stapler.getCurrentRequest2();
+        if (req == null) {
+            return new Prefetch().resolve(item);
         }
-        return helper.getOwnershipDescription(item);
+        
+        Prefetch prefetch = (Prefetch) req.getAttribute(PREFETCH_ATTRIBUTE);
+        if (prefetch == null) {
+            prefetch = new Prefetch();
+            req.setAttribute(PREFETCH_ATTRIBUTE, prefetch);
+        }
+        return prefetch.resolve(item);
     }
 
+    /**
+     * Ownership info of a single row.
+     * @since TODO
+     */
+    @Restricted(NoExternalUse.class)
+    public static final class OwnerEntry {
+        
+        private static final OwnerEntry UNKNOWN = new OwnerEntry(User.getUnknown().getId(), false);
+        
+        private final String ownerId;
+        private final boolean ownerExists;
+
+        OwnerEntry(@Nonnull String ownerId, boolean ownerExists) {
+            this.ownerId = ownerId;
+            this.ownerExists = ownerExists;
+        }
+
+        @Nonnull
+        public String getOwnerId() {
+            return ownerId;
+        }
+
+        public boolean isOwnerExists() {
+            return ownerExists;
+        }
+    }
+    
+    /**
+     * Resolves ownership of items rendered within a single request.
+     * Helpers are being located once per item class, and each owner is being looked up once.
+     * Parent folders are resolved once thanks to {@link org.jenkinsci.plugins.ownership.model.OwnershipInfoCache}.
+     * Not thread-safe, the instance is confined to a single request.
+     */
+    private static final class Prefetch {
+        
+        private final Map<Item, OwnerEntry> entries = new IdentityHashMap<>();
+        private final Map<Class<?>, AbstractOwnershipHelper<Item>> helpers = new HashMap<>();
+        private final Map<String, Boolean> existingUsers = new HashMap<>();
+        
+        @Nonnull
+        OwnerEntry resolve(@Nonnull Item item) {
+            OwnerEntry entry = entries.get(item);
+            if (entry == null) {
+                entry = doResolve(item);
+                entries.put(item, entry);
+            }
+            return entry;
+        }
+        
+        @Nonnull
+        private OwnerEntry doResolve(@Nonnull Item item) {
+            final Class<?> clazz = item.getClass();
+            AbstractOwnershipHelper<Item> helper = helpers.get(clazz);
+            if (helper == null && !helpers.containsKey(clazz)) {
+                helper = OwnershipHelperLocator.locate(item);
+                helpers.put(clazz, helper);
+            }
+            if (helper == null) {
+                // We cannot retrieve helper for the object => keep moving
+                return OwnerEntry.UNKNOWN;
+            }
+            
+            final OwnershipDescription description = helper.getOwnershipDescription(item);
+            final String ownerId = description.getPrimaryOwnerId();
+            if (!description.isOwnershipEnabled() || ownerId == null) {
+                return new OwnerEntry(ownerId != null ? ownerId : User.getUnknown().getId(), false);
+            }
+            
+            final String key = User.idStrategy().keyFor(ownerId);
+            Boolean exists = existingUsers.get(key);
+            if (exists == null) {
+                exists = User.getById(ownerId, false) != null;
+                existingUsers.put(key, exists);
+            }
+            return new OwnerEntry(ownerId, exists);
+        }
+    }
+    
     @Extension
     public static class DescriptorImpl extends ListViewColumnDescriptor {
 
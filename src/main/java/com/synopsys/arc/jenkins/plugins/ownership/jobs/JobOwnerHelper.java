@@ -46,6 +46,7 @@ import javax.annotation.Nonnull;
 import hudson.security.Permission;
 import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
 import org.jenkinsci.plugins.ownership.model.OwnershipInfo;
+import org.jenkinsci.plugins.ownership.model.OwnershipInfoCache;
 import org.jenkinsci.plugins.ownership.model.jobs.JobOwnershipDescriptionSource;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
@@ -110,6 +111,16 @@ public class JobOwnerHelper extends AbstractOwnershipHelper<Job<?,?>> {
 
     @Override
     public OwnershipInfo getOwnershipInfo(Job<?, ?> job) {
+        return OwnershipInfoCache.get().get(job, this::resolveOwnershipInfo);
+    }
+
+    /**
+     * Resolves the effective ownership info of the job without using caches.
+     * @param job Job
+     * @return Ownership info
+     */
+    @Nonnull
+    private OwnershipInfo resolveOwnershipInfo(@Nonnull Job<?, ?> job) {
         JobOwnerJobProperty prop = getOwnerProperty(job);     
         if (prop != null) {
             OwnershipDescription d = prop.getOwnership();
@@ -177,13 +188,19 @@ public class JobOwnerHelper extends AbstractOwnershipHelper<Job<?,?>> {
 
     @Override
     public @Nonnull Collection<User> getPossibleOwners(@Nonnull Job<?, ?> item) {
-        if (OwnershipPlugin.getInstance().isRequiresConfigureRights()) {
-            IUserFilter filter = new AccessRightsFilter(item, Job.CONFIGURE);
+        Permission permission = getPossibleOwnersPermission(item);
+        if (permission != null) {
+            IUserFilter filter = new AccessRightsFilter(item, permission);
             return UserCollectionFilter.filterUsers(User.getAll(), true, filter);
         } else {
             return User.getAll();
         }
     }  
+    
+    @Override
+    public Permission getPossibleOwnersPermission(@Nonnull Job<?, ?> item) {
+        return OwnershipPlugin.getInstance().isRequiresConfigureRights() ? Job.CONFIGURE : null;
+    }
    
     @Override
     public String getItemTypeName(Job<?, ?> item) {
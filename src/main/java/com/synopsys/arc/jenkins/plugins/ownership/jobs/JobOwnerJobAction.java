@@ -136,6 +136,7 @@ public class JobOwnerJobAction extends ItemOwnershipAction<Job<?,?>> {
         
         JSONObject jsonOwnership = req.getSubmittedForm().getJSONObject("owners");
         OwnershipDescription descr = OwnershipDescription.parseJSON(jsonOwnership);
+        checkPossibleOwner(descr);
         JobOwnerHelper.setOwnership(getDescribedItem(), descr);
         
         return HttpResponses.redirectViaContextPath(getDescribedItem().getUrl());
@@ -75,7 +75,7 @@ public class JobOwnerJobProperty extends JobProperty<Job<?, ?>>
         
     @DataBoundConstructor
     public JobOwnerJobProperty( OwnershipDescription ownershipDescription, ItemSpecificSecurity security) {
-        this.ownership = ownershipDescription;
+        this.ownership = ownershipDescription != null ? OwnershipDescription.intern(ownershipDescription) : null;
         this.itemSpecificSecurity = security;
     }
 
@@ -112,6 +112,11 @@ public class JobOwnerJobProperty extends JobProperty<Job<?, ?>>
         return JobOwnerHelper.Instance.getDisplayName(usr);
     }
       
+    /**
+     * @deprecated Iterates through all users in the system.
+     *             Use {@link org.jenkinsci.plugins.ownership.util.users.PossibleOwnersSearch} instead
+     */
+    @Deprecated
     public Collection<User> getUsers()
     {     
         //TODO: Sort users
@@ -168,7 +173,7 @@ public class JobOwnerJobProperty extends JobProperty<Job<?, ?>>
     }
     
     public void setOwnershipDescription(@CheckForNull OwnershipDescription descr) throws IOException {
-        ownership = descr;
+        ownership = descr != null ? OwnershipDescription.intern(descr) : null;
         owner.save();
     }
     
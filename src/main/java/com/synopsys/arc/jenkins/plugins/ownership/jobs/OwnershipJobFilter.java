@@ -24,11 +24,10 @@
 package com.synopsys.arc.jenkins.plugins.ownership.jobs;
 
 import com.synopsys.arc.jenkins.plugins.ownership.Messages;
-import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
-import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
-import com.synopsys.arc.jenkins.plugins.ownership.util.userFilters.UserComparator;
+import com.synopsys.arc.jenkins.plugins.ownership.util.UserStringFormatter;
 import com.synopsys.arc.jenkins.plugins.ownership.util.UserWrapper;
 import hudson.Extension;
+import hudson.model.AutoCompletionCandidates;
 import hudson.model.Descriptor;
 import hudson.model.TopLevelItem;
 import hudson.model.User;
@@ -36,13 +35,22 @@ import hudson.model.View;
 import hudson.views.ViewJobFilter;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONArray;
 import net.sf.json.JSONObject;
-import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
+import org.jenkinsci.plugins.ownership.model.OwnershipIndex;
+import org.jenkinsci.plugins.ownership.util.users.UserIndex;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
+import org.kohsuke.stapler.QueryParameter;
 import org.kohsuke.stapler.StaplerRequest;
 
 /**
@@ -56,6 +64,9 @@ public class OwnershipJobFilter extends ViewJobFilter {
      * Macro, which allows to select currently logged user for the filter.
      */
     private static final String MACRO_ME = "@Me";
+    
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     String ownerId;
     boolean acceptsCoowners;
@@ -93,40 +104,40 @@ public class OwnershipJobFilter extends ViewJobFilter {
 
     @Override
     public List<TopLevelItem> filter(List<TopLevelItem> added, List<TopLevelItem> all, View filteringView) {
-        final ArrayList<TopLevelItem> newList = new ArrayList<>();
-        final UserWrapper userWrapper = new UserWrapper(ownerId);
-
+        final String effectiveOwnerId = getEffectiveOwnerId();
+        if (effectiveOwnerId == null) {
+            return new ArrayList<>();
+        }
+        
+        // The index contains effective ownership, so there is no need to resolve ownership of each item
+        final Set<String> ownedItems = OwnershipIndex.get().getItems(effectiveOwnerId, acceptsCoowners);
+        final ArrayList<TopLevelItem> newList = new ArrayList<>(Math.min(added.size(), ownedItems.size()));
+        if (ownedItems.isEmpty()) {
+            return newList;
+        }
         for (TopLevelItem item : added) {
-            AbstractOwnershipHelper<TopLevelItem> helper = OwnershipHelperLocator.locate(item);
-            if (helper == null) {
-                // We cannot retrieve helper for the object => keep moving
-                continue;
-            }
-            
-            OwnershipDescription ownership = helper.getOwnershipDescription(item);
-            if (!ownership.isOwnershipEnabled()) {
-                continue;
-            }
-
-            boolean matches = false; // Check owner
-            if (userWrapper.meetsMacro(ownership.getPrimaryOwnerId())) {
-                matches = true;
-            }
-            if (acceptsCoowners && !matches) { // Check secondary owners
-                for (String coOwnerId : ownership.getSecondaryOwnerIds()) {
-                    if (userWrapper.meetsMacro(coOwnerId)) {
-                        matches = true;
-                        break;
-                    }
-                }
-            }
-            if (matches) {
+            if (ownedItems.contains(item.getFullName())) {
                 newList.add(item);
             }
         }
-
         return newList;
     }
+    
+    /**
+     * Gets ID of the user, which items should be accepted by the filter.
+     * Macros are resolved once per filtering.
+     * @return User ID. {@code null} if the user cannot be determined or does not exist
+     */
+    @CheckForNull
+    private String getEffectiveOwnerId() {
+        if (ownerId == null) {
+            return null;
+        }
+        final User user = ownerId.startsWith(UserWrapper.USER_MACRO_PREFIX) 
+                ? User.current() 
+                : User.getById(ownerId, false);
+        return user != null ? user.getId() : null;
+    }
 
     @Extension
     public static class DescriptorImpl extends Descriptor<ViewJobFilter> {
@@ -143,26 +154,63 @@ public class OwnershipJobFilter extends ViewJobFilter {
             OwnershipJobFilter instance = new OwnershipJobFilter(jobOwner, acceptCoowners);
             return instance;
         }
+        
+        /**
+         * Retrieves a page of users, which can be selected in the filter.
+         * @param q Prefix of the user ID or full name
+         * @param offset Index of the first user to be returned
+         * @param limit Maximum number of users in the page
+         * @return JSON object with {@code users}, {@code nextOffset} and {@code hasMore} fields
+         * @since TODO
+         */
+        @Restricted(NoExternalUse.class)
+        public HttpResponse doSearchUsers(@QueryParameter String q, 
+                @QueryParameter int offset, @QueryParameter int limit) {
+            Jenkins.get().checkPermission(Jenkins.READ);
+            final List<User> users = UserIndex.get().getSnapshot().search(q);
+            final int from = Math.min(Math.max(offset, 0), users.size());
+            final int to = Math.min(from + (limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE)), users.size());
+            
+            JSONArray page = new JSONArray();
+            for (User user : users.subList(from, to)) {
+                JSONObject entry = new JSONObject();
+                entry.put("id", user.getId());
+                entry.put("displayName", UserStringFormatter.format(user));
+                page.add(entry);
+            }
+            JSONObject res = new JSONObject();
+            res.put("users", page);
+            res.put("nextOffset", to);
+            res.put("hasMore", to < users.size());
+            return HttpResponses.okJSON(res);
+        }
+        
+        @Restricted(NoExternalUse.class)
+        public AutoCompletionCandidates doAutoCompleteJobOwner(@QueryParameter String value) {
+            Jenkins.get().checkPermission(Jenkins.READ);
+            AutoCompletionCandidates candidates = new AutoCompletionCandidates();
+            if (value == null || MACRO_ME.toLowerCase(Locale.ENGLISH).startsWith(value.toLowerCase(Locale.ENGLISH))) {
+                candidates.add(MACRO_ME);
+            }
+            final List<User> users = UserIndex.get().getSnapshot().search(value);
+            for (User user : users.subList(0, Math.min(DEFAULT_PAGE_SIZE, users.size()))) {
+                candidates.add(user.getId());
+            }
+            return candidates;
+        }
     }
 
     /**
      * Get list of users for the selector.
-     *
+     * The list is being created once per {@link UserIndex} snapshot.
      * @return Collection of all registered users
      */
     @Nonnull
     public static Collection<UserWrapper> getAvailableUsers() {
-        // Sort users
-        UserComparator comparator = new UserComparator();
-        LinkedList<User> userList = new LinkedList<>(User.getAll());
-        Collections.sort(userList, comparator);
-
-        // Prepare new list
-        Collection<UserWrapper> res = new ArrayList<>(userList.size() + 1);
+        final List<UserWrapper> wrappers = UserIndex.get().getSnapshot().getUserWrappers();
+        final Collection<UserWrapper> res = new ArrayList<>(wrappers.size() + 1);
         res.add(new UserWrapper(MACRO_ME));
-        for (User user : userList) {
-            res.add(new UserWrapper(user));
-        }
+        res.addAll(wrappers);
         return res;
     }
 }
@@ -39,6 +39,7 @@ import javax.annotation.Nonnull;
 import hudson.security.Permission;
 import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
 import org.jenkinsci.plugins.ownership.model.OwnershipInfo;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipTable;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
@@ -58,15 +59,13 @@ public class ComputerOwnerHelper extends AbstractOwnershipHelper<Computer> {
     @Override
     public OwnershipDescription getOwnershipDescription(@Nonnull Computer item) {
         // TODO: This method impl is a performance hack. May be replaced by getOwnershipInfo() in 1.0
-        Node node = item.getNode();      
-        return node != null 
-                ? NodeOwnerHelper.Instance.getOwnershipDescription(node)
-                : OwnershipDescription.DISABLED_DESCR; // No node - no ownership
+        // No node - no ownership
+        return NodeOwnershipTable.get().get(item);
     }
 
     @Override
     public OwnershipInfo getOwnershipInfo(Computer item) {
-        Node node = item.getNode();      
+        Node node = NodeOwnershipTable.get().getNode(item);      
         return node != null 
                 ? NodeOwnerHelper.Instance.getOwnershipInfo(node)
                 : OwnershipInfo.DISABLED_INFO;
@@ -80,6 +79,14 @@ public class ComputerOwnerHelper extends AbstractOwnershipHelper<Computer> {
                 : Collections.<User>emptyList();
     }  
     
+    @Override
+    public Permission getPossibleOwnersPermission(@Nonnull Computer computer) {
+        Node node = computer.getNode();
+        return node != null 
+                ? NodeOwnerHelper.Instance.getPossibleOwnersPermission(node)
+                : null;
+    }
+    
     public static void setOwnership(@Nonnull Computer computer, 
             @CheckForNull OwnershipDescription descr) throws IOException {
         Node node = computer.getNode();
@@ -41,9 +41,14 @@ import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 import hudson.security.Permission;
+import org.jenkinsci.plugins.ownership.config.NodeOwnershipRule;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
 import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
 import org.jenkinsci.plugins.ownership.model.OwnershipInfo;
 import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipDescriptionSource;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipRuleSource;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipRuleTable;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipTable;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
@@ -76,8 +81,7 @@ public class NodeOwnerHelper extends AbstractOwnershipHelper<Node> {
             return OwnershipDescription.DISABLED_DESCR;
         }
         
-        OwnerNodeProperty prop = getOwnerProperty(item);
-        return prop != null ? prop.getOwnership() : OwnershipDescription.DISABLED_DESCR;
+        return NodeOwnershipTable.get().getOwnership(item);
     }
 
     @Override
@@ -87,8 +91,14 @@ public class NodeOwnerHelper extends AbstractOwnershipHelper<Node> {
         }
         
         OwnerNodeProperty prop = getOwnerProperty(item);
-        return prop != null ? new OwnershipInfo(OwnershipDescription.DISABLED_DESCR, 
-                new NodeOwnershipDescriptionSource(item)) : OwnershipInfo.DISABLED_INFO;
+        if (prop != null) {
+            return new OwnershipInfo(getOwnershipDescription(item), new NodeOwnershipDescriptionSource(item));
+        }
+        
+        NodeOwnershipRule rule = NodeOwnershipRuleTable.get().findRule(item);
+        return rule != null 
+                ? new OwnershipInfo(getOwnershipDescription(item), new NodeOwnershipRuleSource(rule))
+                : OwnershipInfo.DISABLED_INFO;
     }
 
     @Override
@@ -103,14 +113,20 @@ public class NodeOwnerHelper extends AbstractOwnershipHelper<Node> {
 
     @Override
     public Collection<User> getPossibleOwners(Node item) {
-        if (OwnershipPlugin.getInstance().isRequiresConfigureRights()) {
-            IUserFilter filter = new AccessRightsFilter(item, Computer.CONFIGURE);
+        Permission permission = getPossibleOwnersPermission(item);
+        if (permission != null) {
+            IUserFilter filter = new AccessRightsFilter(item, permission);
             return UserCollectionFilter.filterUsers(User.getAll(), true, filter);
         } else {
             return User.getAll();
         }
     }  
     
+    @Override
+    public Permission getPossibleOwnersPermission(Node item) {
+        return OwnershipPlugin.getInstance().isRequiresConfigureRights() ? Computer.CONFIGURE : null;
+    }
+    
     /**
      * Sets ownership of the node.
      * @param node A target node
@@ -123,6 +139,7 @@ public class NodeOwnerHelper extends AbstractOwnershipHelper<Node> {
         if (prop == null) {
             prop = new OwnerNodeProperty(node, descr);
             node.getNodeProperties().add(prop);
+            OwnershipChangeListener.fireNodeChanged(node.getNodeName());
         } else {
             prop.setOwnershipDescription(descr);
         }
@@ -102,6 +102,7 @@ public class NodeOwnershipAction extends ItemOwnershipAction<Computer> {
         
         JSONObject jsonOwnership = req.getSubmittedForm().getJSONObject("owners");
         OwnershipDescription descr = OwnershipDescription.parseJSON(jsonOwnership);
+        checkPossibleOwner(descr);
         ComputerOwnerHelper.setOwnership(getDescribedItem(), descr);
         
         return HttpResponses.redirectViaContextPath(getDescribedItem().getUrl());
@@ -43,6 +43,8 @@ import java.util.List;
 import javax.annotation.CheckForNull;
 import jenkins.model.Jenkins;
 import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipTable;
 import org.kohsuke.stapler.Ancestor;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.StaplerRequest;
@@ -67,7 +69,7 @@ public class OwnerNodeProperty extends NodeProperty<Node>
          setNode(node);
          //FIXME: remove hack with owner
          this.nodeName = (node != null) ? node.getNodeName() : null;
-         this.ownership = (ownership != null) ? ownership : OwnershipDescription.DISABLED_DESCR;
+         this.ownership = (ownership != null) ? OwnershipDescription.intern(ownership) : OwnershipDescription.DISABLED_DESCR;
     }
     
     @Override
@@ -76,10 +78,26 @@ public class OwnerNodeProperty extends NodeProperty<Node>
     }
     
     public void setOwnershipDescription(OwnershipDescription descr) throws IOException {
-        ownership = descr;
+        ownership = descr != null ? OwnershipDescription.intern(descr) : null;
         Node node = getNode();
         if (node != null) {
             node.save();
+            OwnershipChangeListener.fireNodeChanged(node.getNodeName());
+        }
+    }
+    
+    /**
+     * Binds the property to the node.
+     * {@link NodeOwnershipTable} binds deserialized properties when their nodes get registered,
+     * so that {@link #getNode()} does not look up the node by name.
+     * @param node Node
+     */
+    @Override
+    public void setNode(Node node) {
+        super.setNode(node);
+        if (node != null) {
+            // Follow renames
+            nodeName = node.getNodeName();
         }
     }
     
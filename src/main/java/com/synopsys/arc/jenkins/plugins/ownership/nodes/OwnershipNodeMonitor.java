@@ -30,12 +30,16 @@ import hudson.node_monitors.AbstractNodeMonitorDescriptor;
 import hudson.node_monitors.NodeMonitor;
 import hudson.slaves.OfflineCause;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipTable;
 import org.kohsuke.stapler.StaplerRequest;
 import org.kohsuke.stapler.export.ExportedBean;
 
 /**
  * Implements monitoring of ownership.
+ * The monitor does not collect data periodically, ownership is being read from {@link NodeOwnershipTable},
+ * which is updated on ownership changes.
  * @author Oleg Nenashev
  * @since 0.4
  */
@@ -45,22 +49,37 @@ public class OwnershipNodeMonitor extends NodeMonitor {
     public AbstractNodeMonitorDescriptor<?> getDescriptor() {
         return DESCRIPTOR;
     }
+
+    /**
+     * Gets ownership data of the computer.
+     * The data is being retrieved synchronously, so it reflects the current node configuration.
+     * @param c Computer
+     * @return Monitoring data
+     */
+    @Override
+    public Data data(Computer c) {
+        return new Data(NodeOwnershipTable.get().get(c));
+    }
     
     @Extension
     public static final DescriptorImpl DESCRIPTOR = new DescriptorImpl();
 
     public static class DescriptorImpl extends AbstractNodeMonitorDescriptor<Data> {
         
-        //TODO: no need to use AsyncNodeMonitor from the performance PoV, but there is no supported sync option in the core
+        /**
+         * Period of the background data collection.
+         * The collected data is not being used by the plugin, see {@link OwnershipNodeMonitor#data(Computer)}.
+         * The core does not support monitors without periodic updates, hence the period is as long as possible.
+         */
+        private static final long RECURRENCE_PERIOD = TimeUnit.DAYS.toMillis(1);
+        
         DescriptorImpl() {
-            // Check every 10 minutes
-            super(1000*60*10L);
+            super(RECURRENCE_PERIOD);
         }
         
         @Override
         protected Data monitor(Computer c) throws IOException, InterruptedException {
-            OwnershipDescription ownership = ComputerOwnerHelper.getInstance().getOwnershipDescription(c);
-            return new Data(ownership);
+            return new Data(NodeOwnershipTable.get().get(c));
         }      
 
         @Override
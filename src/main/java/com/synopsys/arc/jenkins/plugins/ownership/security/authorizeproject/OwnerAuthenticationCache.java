@@ -0,0 +1,240 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.security.authorizeproject;
+
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.XmlFile;
+import hudson.model.Item;
+import hudson.model.Saveable;
+import hudson.model.User;
+import hudson.model.listeners.SaveableListener;
+import hudson.security.SecurityRealm;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * Caches authentications of owners for {@link OwnershipAuthorizeProjectStrategy}.
+ * Impersonation may require a lookup in the security realm (e.g. LDAP), 
+ * so bursts of triggered builds would cause the same lookups for every queue item.
+ * <p>
+ * Entries expire after the timeout defined by the {@code ttlSeconds} system property of this class.
+ * Lookups run outside of the map, concurrent requests for the same user wait for a single lookup.
+ * Unknown users are cached as anonymous ones (negative caching), 
+ * these entries are dropped on every ownership change so that newly assigned owners get resolved.
+ * Entries of users are dropped when the users get saved or deleted, so that the changes apply to the next builds.
+ * The cache is cleared when the security realm changes or when the ownership configuration gets reloaded.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class OwnerAuthenticationCache extends OwnershipChangeListener {
+    
+    /**
+     * Time to live of cached authentications in seconds.
+     * {@code 0} disables the cache.
+     */
+    static long TTL_SECONDS = SystemProperties.getLong(OwnerAuthenticationCache.class.getName() + ".ttlSeconds", 60L);
+    
+    private final ConcurrentMap<String, CachedAuthentication> cache = new ConcurrentHashMap<>();
+    
+    @CheckForNull
+    private volatile SecurityRealm securityRealm;
+    
+    @Nonnull
+    public static OwnerAuthenticationCache get() {
+        return ExtensionList.lookupSingleton(OwnerAuthenticationCache.class);
+    }
+    
+    /**
+     * Gets the authentication of the user.
+     * @param userId ID of the user
+     * @return Authentication of the user. 
+     *         {@link Jenkins#ANONYMOUS2} if the user does not exist or cannot be impersonated.
+     */
+    @Nonnull
+    public Authentication authenticate(@Nonnull String userId) {
+        if (TTL_SECONDS <= 0) {
+            return impersonate(userId);
+        }
+        
+        final SecurityRealm currentRealm = Jenkins.get().getSecurityRealm();
+        if (securityRealm != currentRealm) {
+            cache.clear();
+            securityRealm = currentRealm;
+        }
+        
+        final String key = User.idStrategy().keyFor(userId);
+        while (true) {
+            final long now = System.nanoTime();
+            final CachedAuthentication cached = cache.get(key);
+            if (cached != null && !cached.isExpired(now)) {
+                return cached.get(userId);
+            }
+            
+            // The lookup may require a remote call, hence it runs outside of the map.
+            // Concurrent requests for the same user wait for the same lookup
+            final CachedAuthentication created = new CachedAuthentication(
+                    new FutureTask<>(() -> impersonate(userId)), now + TimeUnit.SECONDS.toNanos(TTL_SECONDS));
+            final boolean installed = cached == null 
+                    ? cache.putIfAbsent(key, created) == null 
+                    : cache.replace(key, cached, created);
+            if (installed) {
+                created.lookup.run();
+                try {
+                    return created.get(userId);
+                } catch (RuntimeException | Error ex) {
+                    // Do not cache failures, e.g. unavailability of the security realm
+                    cache.remove(key, created);
+                    throw ex;
+                }
+            }
+        }
+    }
+    
+    @Nonnull
+    private static Authentication impersonate(@Nonnull String userId) {
+        User owner = User.getById(userId, false);
+        if (owner == null) { // fallback to anonymous
+            return Jenkins.ANONYMOUS2;
+        }
+        try {
+            return owner.impersonate2();
+        } catch (UsernameNotFoundException ex) { // fallback to anonymous
+            return Jenkins.ANONYMOUS2;
+        }
+    }
+    
+    /**
+     * Drops the cached authentication of the user.
+     * @param userId ID of the user
+     */
+    public void invalidate(@Nonnull String userId) {
+        cache.remove(User.idStrategy().keyFor(userId));
+    }
+    
+    public void invalidateAll() {
+        cache.clear();
+    }
+    
+    private void invalidateUnknownUsers() {
+        cache.values().removeIf(CachedAuthentication::mayBeAnonymous);
+    }
+
+    @Override
+    public void onChanged(@Nonnull Item item) {
+        invalidateUnknownUsers();
+    }
+
+    @Override
+    public void onRemoved(@Nonnull String fullName) {
+        invalidateUnknownUsers();
+    }
+
+    @Override
+    public void onReset() {
+        invalidateAll();
+    }
+    
+    private static final class CachedAuthentication {
+        
+        private final FutureTask<Authentication> lookup;
+        private final long expiresAt;
+
+        CachedAuthentication(@Nonnull FutureTask<Authentication> lookup, long expiresAt) {
+            this.lookup = lookup;
+            this.expiresAt = expiresAt;
+        }
+        
+        @Nonnull
+        Authentication get(@Nonnull String userId) {
+            try {
+                return lookup.get();
+            } catch (InterruptedException ex) {
+                // Do not leave the caller without the result
+                Thread.currentThread().interrupt();
+                return impersonate(userId);
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException("Failed to impersonate " + userId, cause);
+            }
+        }
+        
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+        
+        /**
+         * Checks if the user may be unknown.
+         * Pending lookups may have been started before the change, hence they are considered as well.
+         */
+        boolean mayBeAnonymous() {
+            if (!lookup.isDone()) {
+                return true;
+            }
+            try {
+                return lookup.get() == Jenkins.ANONYMOUS2;
+            } catch (InterruptedException | ExecutionException ex) {
+                return true;
+            }
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class SaveableListenerImpl extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().invalidate(((User) o).getId());
+            }
+        }
+
+        @Override
+        public void onDeleted(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().invalidate(((User) o).getId());
+            }
+        }
+    }
+}
@@ -28,12 +28,11 @@ import com.synopsys.arc.jenkins.plugins.ownership.Messages;
 import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
 import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
 import hudson.Extension;
+import hudson.Util;
 import hudson.model.Job;
 import hudson.model.Queue;
-import hudson.model.User;
 import jenkins.model.Jenkins;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.jenkinsci.plugins.authorizeproject.AuthorizeProjectStrategy;
 import org.jenkinsci.plugins.authorizeproject.AuthorizeProjectStrategyDescriptor;
 import org.kohsuke.stapler.DataBoundConstructor;
@@ -54,18 +53,11 @@ public class OwnershipAuthorizeProjectStrategy extends AuthorizeProjectStrategy
     @Override
     public Authentication authenticate(Job<?, ?> job, Queue.Item item) {    
         OwnershipDescription d = JobOwnerHelper.Instance.getOwnershipDescription(job);
-        if (!d.hasPrimaryOwner()) { // fallback to anonymous
-            return Jenkins.ANONYMOUS2;
-        }    
-        User owner = User.getById(d.getPrimaryOwnerId(), false);
-        if (owner == null) { // fallback to anonymous
-            return Jenkins.ANONYMOUS2;
-        }
-        try {
-            return owner.impersonate2();
-        } catch (UsernameNotFoundException ex) { // fallback to anonymous
+        if (!d.isOwnershipEnabled() || Util.fixEmpty(d.getPrimaryOwnerId()) == null) { // fallback to anonymous
             return Jenkins.ANONYMOUS2;
         }
+        // Unknown owners are being resolved to anonymous as well
+        return OwnerAuthenticationCache.get().authenticate(d.getPrimaryOwnerId());
     }
       
     @Extension(optional = true)
@@ -0,0 +1,228 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.security.itemspecific;
+
+import hudson.security.AuthorizationMatrixProperty;
+import hudson.security.Permission;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.matrixauth.PermissionEntry;
+
+/**
+ * Compiled form of {@link AuthorizationMatrixProperty}.
+ * Permissions granted to every SID are stored as a bitset indexed by the permission number.
+ * Implied permissions are expanded during the compilation in the same way as ACL does: disabled permissions are skipped.
+ * Hence a permission check is a hash lookup and a single bit test.
+ * <p>
+ * Permissions may be enabled or disabled at runtime without any notification.
+ * Enabled states are being compared with the ones used by the compilation 
+ * at most once per the interval defined by the {@code enabledStateCheckIntervalMillis} system property,
+ * matrices are being recompiled if the states differ.
+ * @since TODO
+ */
+final class CompiledPermissionMatrix {
+    
+    /**
+     * Minimal interval between checks of enabled states of permissions.
+     * {@code 0} makes every permission check verify the states.
+     */
+    static long ENABLED_STATE_CHECK_INTERVAL_MILLIS = SystemProperties.getLong(
+            CompiledPermissionMatrix.class.getName() + ".enabledStateCheckIntervalMillis", 1000L);
+    
+    @CheckForNull
+    private static volatile PermissionIndex permissionIndex;
+    
+    private final PermissionIndex index;
+    private final Map<String, BitSet> permissionsBySid;
+
+    private CompiledPermissionMatrix(@Nonnull PermissionIndex index, @Nonnull Map<String, BitSet> permissionsBySid) {
+        this.index = index;
+        this.permissionsBySid = permissionsBySid;
+    }
+    
+    /**
+     * Compiles the matrix.
+     * @param matrix Source matrix
+     * @return Compiled matrix
+     */
+    @Nonnull
+    static CompiledPermissionMatrix compile(@Nonnull AuthorizationMatrixProperty matrix) {
+        final PermissionIndex idx = PermissionIndex.get();
+        
+        final Map<String, BitSet> granted = new HashMap<>();
+        for (Map.Entry<Permission, Set<PermissionEntry>> entry : matrix.getGrantedPermissionEntries().entrySet()) {
+            final Integer permissionNumber = idx.numbers.get(entry.getKey());
+            if (permissionNumber == null) {
+                continue;
+            }
+            for (PermissionEntry permissionEntry : entry.getValue()) {
+                granted.computeIfAbsent(permissionEntry.getSid(), k -> new BitSet(idx.size())).set(permissionNumber);
+            }
+        }
+        
+        final Map<String, BitSet> effective = new HashMap<>(granted.size());
+        for (Map.Entry<String, BitSet> entry : granted.entrySet()) {
+            effective.put(entry.getKey(), idx.expand(entry.getValue()));
+        }
+        return new CompiledPermissionMatrix(idx, effective);
+    }
+    
+    /**
+     * Checks if the matrix is up to date with registered permissions and their enabled states.
+     * @return {@code false} if the matrix has to be recompiled
+     */
+    boolean isUpToDate() {
+        return index == PermissionIndex.get();
+    }
+    
+    /**
+     * Checks the permission.
+     * @param sid SID
+     * @param p Permission
+     * @return {@code true} if the permission is granted. 
+     *         {@code null} if the permission is unknown to the compiled matrix.
+     */
+    @CheckForNull
+    Boolean hasPermission(@Nonnull String sid, @Nonnull Permission p) {
+        final Integer number = index.numbers.get(p);
+        if (number == null) {
+            return null;
+        }
+        final BitSet permissions = permissionsBySid.get(sid);
+        return permissions != null && permissions.get(number);
+    }
+    
+    /**
+     * Assigns numbers to all registered permissions and stores their implications.
+     * The index is shared between compiled matrices.
+     * It is recreated when new permissions get registered or when enabled states of permissions change.
+     */
+    private static final class PermissionIndex {
+        
+        private final List<Permission> permissions;
+        private final Map<Permission, Integer> numbers;
+        private final BitSet enabled;
+        /**
+         * Numbers of enabled permissions, which grant the permission with the index number.
+         * It includes the permission itself if it is enabled.
+         */
+        private final int[][] grantedBy;
+        private volatile long checkedAt;
+
+        private PermissionIndex(@Nonnull List<Permission> permissions, @Nonnull BitSet enabled) {
+            this.permissions = permissions;
+            this.enabled = enabled;
+            this.numbers = new IdentityHashMap<>(permissions.size());
+            for (int i = 0; i < permissions.size(); i++) {
+                numbers.put(permissions.get(i), i);
+            }
+            this.grantedBy = new int[permissions.size()][];
+            for (int i = 0; i < permissions.size(); i++) {
+                final List<Integer> grantors = new ArrayList<>();
+                for (Permission current = permissions.get(i); current != null; current = current.impliedBy) {
+                    final Integer number = numbers.get(current);
+                    if (number != null && enabled.get(number)) {
+                        grantors.add(number);
+                    }
+                }
+                grantedBy[i] = grantors.stream().mapToInt(Integer::intValue).toArray();
+            }
+            this.checkedAt = System.nanoTime();
+        }
+        
+        int size() {
+            return permissions.size();
+        }
+        
+        /**
+         * Expands directly granted permissions by implied ones.
+         * @param granted Numbers of directly granted permissions
+         * @return Numbers of effectively granted permissions
+         */
+        @Nonnull
+        BitSet expand(@Nonnull BitSet granted) {
+            final BitSet res = new BitSet(size());
+            for (int i = 0; i < grantedBy.length; i++) {
+                for (int grantor : grantedBy[i]) {
+                    if (granted.get(grantor)) {
+                        res.set(i);
+                        break;
+                    }
+                }
+            }
+            return res;
+        }
+        
+        /**
+         * Checks that the index is applicable to registered permissions.
+         * Enabled states are being checked at most once per {@link #ENABLED_STATE_CHECK_INTERVAL_MILLIS}.
+         */
+        private boolean isApplicable(@Nonnull List<Permission> all) {
+            if (size() != all.size()) {
+                return false;
+            }
+            final long now = System.nanoTime();
+            if (now - checkedAt < TimeUnit.MILLISECONDS.toNanos(ENABLED_STATE_CHECK_INTERVAL_MILLIS)) {
+                return true;
+            }
+            if (!enabled.equals(getEnabledStates(permissions))) {
+                return false;
+            }
+            checkedAt = now;
+            return true;
+        }
+        
+        @Nonnull
+        private static BitSet getEnabledStates(@Nonnull List<Permission> permissions) {
+            final BitSet res = new BitSet(permissions.size());
+            for (int i = 0; i < permissions.size(); i++) {
+                if (permissions.get(i).getEnabled()) {
+                    res.set(i);
+                }
+            }
+            return res;
+        }
+        
+        @Nonnull
+        static PermissionIndex get() {
+            PermissionIndex idx = permissionIndex;
+            final List<Permission> all = Permission.getAll();
+            if (idx == null || !idx.isApplicable(all)) {
+                final List<Permission> permissions = new ArrayList<>(all);
+                idx = new PermissionIndex(permissions, getEnabledStates(permissions));
+                permissionIndex = idx;
+            }
+            return idx;
+        }
+    }
+}
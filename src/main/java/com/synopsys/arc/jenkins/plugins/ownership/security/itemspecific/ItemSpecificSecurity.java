@@ -52,6 +52,13 @@ public class ItemSpecificSecurity implements Describable<ItemSpecificSecurity>,
     
     private @Nonnull AuthorizationMatrixProperty permissionsMatrix;
     
+    /**
+     * Compiled {@link #permissionsMatrix}, which is used for permission checks.
+     * Created on the first check after the construction or loading.
+     */
+    @CheckForNull
+    private transient volatile CompiledPermissionMatrix compiledMatrix;
+    
     @DataBoundConstructor
     public ItemSpecificSecurity(@CheckForNull AuthorizationMatrixProperty permissionsMatrix) {
         this.permissionsMatrix = permissionsMatrix != null 
@@ -68,6 +75,26 @@ public class ItemSpecificSecurity implements Describable<ItemSpecificSecurity>,
     public AuthorizationMatrixProperty getPermissionsMatrix() {
          return permissionsMatrix;
     }
+    
+    /**
+     * Checks if the permission is granted to the SID.
+     * The check is equivalent to {@link AuthorizationMatrixProperty#hasPermission(java.lang.String, hudson.security.Permission)},
+     * but it uses the compiled matrix.
+     * The matrix is expected to stay unmodified after the creation of this object.
+     * @param sid SID
+     * @param p Permission
+     * @return {@code true} if the permission is granted
+     * @since TODO
+     */
+    public boolean hasPermission(@Nonnull String sid, @Nonnull Permission p) {
+        CompiledPermissionMatrix compiled = compiledMatrix;
+        if (compiled == null || !compiled.isUpToDate()) {
+            compiled = CompiledPermissionMatrix.compile(permissionsMatrix);
+            compiledMatrix = compiled;
+        }
+        final Boolean res = compiled.hasPermission(sid, p);
+        return res != null ? res : permissionsMatrix.hasPermission(sid, p);
+    }
 
     @Override
     public ItemSpecificSecurity clone() {
@@ -86,6 +113,7 @@ public class ItemSpecificSecurity implements Describable<ItemSpecificSecurity>,
                 permissions.put(entry.getKey(), sids);
             }
             newItem.permissionsMatrix = new AuthorizationMatrixProperty(permissions);
+            newItem.compiledMatrix = null;
             return newItem;
         } catch (CloneNotSupportedException ex) {
             Logger.getLogger(ItemSpecificSecurity.class.getName()).log(Level.SEVERE, null, ex);
@@ -35,9 +35,15 @@ import hudson.Extension;
 import hudson.model.Job;
 import hudson.model.Queue;
 import hudson.model.Run;
+import hudson.security.SecurityRealm;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.IdStrategy;
+import jenkins.model.Jenkins;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -52,7 +58,12 @@ public class OwnersListJobRestriction extends JobRestriction {
     private static final JobOwnerHelper helper = new JobOwnerHelper();
     private final List<UserSelector> usersList;
     private final boolean acceptsCoOwners;
-    transient private Set<String> usersMap = null;
+    
+    /**
+     * Immutable snapshot of the users list, which is used by ownership checks.
+     * The snapshot is being published atomically, so checks do not need locks.
+     */
+    transient private volatile UsersSnapshot usersSnapshot;
 
     @DataBoundConstructor
     public OwnersListJobRestriction(List<UserSelector> usersList, boolean acceptsCoOwners) {
@@ -61,17 +72,25 @@ public class OwnersListJobRestriction extends JobRestriction {
         updateUsersMap();
     }
     
-    protected synchronized final void updateUsersMap() {
-        if (usersMap == null) {
-            // Update users map
-            usersMap = new TreeSet<>(new IdStrategyComparator());
-            for (UserSelector selector : usersList) {
-                String userId = hudson.Util.fixEmptyAndTrim(selector.getSelectedUserId());
-                if (userId != null && !usersMap.contains(userId)) {
-                    usersMap.add(userId);
-                }
-            }
+    protected final void updateUsersMap() {
+        getUsersSnapshot();
+    }
+    
+    /**
+     * Gets the snapshot of users for the current ID strategies.
+     * @return Snapshot, which is being created if it does not exist or if ID strategies have changed
+     */
+    @Nonnull
+    private UsersSnapshot getUsersSnapshot() {
+        final SecurityRealm realm = Jenkins.get().getSecurityRealm();
+        final IdStrategy userIdStrategy = realm.getUserIdStrategy();
+        final IdStrategy groupIdStrategy = realm.getGroupIdStrategy();
+        UsersSnapshot snapshot = usersSnapshot;
+        if (snapshot == null || !snapshot.isApplicable(userIdStrategy, groupIdStrategy)) {
+            snapshot = new UsersSnapshot(userIdStrategy, groupIdStrategy, usersList);
+            usersSnapshot = snapshot;
         }
+        return snapshot;
     }
 
     public List<UserSelector> getUsersList() {
@@ -118,20 +137,16 @@ public class OwnersListJobRestriction extends JobRestriction {
             return false;
         }
         
-        synchronized(this) {
-            updateUsersMap();
-            if (usersMap.contains(descr.getPrimaryOwnerId())) {
-                return true;
-            }
+        final Set<String> users = getUsersSnapshot().userIds;
+        if (users.contains(descr.getPrimaryOwnerId())) {
+            return true;
+        }
 
-            // Handle secondary owners if required
-            Set<String> itemCoOwners = new TreeSet<>(new IdStrategyComparator());
-            itemCoOwners.addAll(descr.getSecondaryOwnerIds());
-            if (acceptsCoOwners && !itemCoOwners.isEmpty()) {
-                for (String userID : usersMap) {
-                    if (itemCoOwners.contains(userID)) {
-                        return true;
-                    }
+        // Handle secondary owners if required
+        if (acceptsCoOwners) {
+            for (String secondaryOwnerId : descr.getSecondaryOwnerIds()) {
+                if (users.contains(secondaryOwnerId)) {
+                    return true;
                 }
             }
         }
@@ -140,6 +155,37 @@ public class OwnersListJobRestriction extends JobRestriction {
         return false;
     }
 
+    
+    /**
+     * Immutable set of selected user IDs, which uses ID strategies for comparison.
+     */
+    private static final class UsersSnapshot {
+        
+        private final IdStrategy userIdStrategy;
+        private final IdStrategy groupIdStrategy;
+        private final Set<String> userIds;
+
+        UsersSnapshot(@Nonnull IdStrategy userIdStrategy, @Nonnull IdStrategy groupIdStrategy, 
+                @CheckForNull List<UserSelector> usersList) {
+            this.userIdStrategy = userIdStrategy;
+            this.groupIdStrategy = groupIdStrategy;
+            final Set<String> ids = new TreeSet<>(new IdStrategyComparator(userIdStrategy, groupIdStrategy));
+            if (usersList != null) {
+                for (UserSelector selector : usersList) {
+                    String userId = hudson.Util.fixEmptyAndTrim(selector.getSelectedUserId());
+                    if (userId != null) {
+                        ids.add(userId);
+                    }
+                }
+            }
+            this.userIds = Collections.unmodifiableSet(ids);
+        }
+        
+        boolean isApplicable(@Nonnull IdStrategy userIdStrategy, @Nonnull IdStrategy groupIdStrategy) {
+            return (this.userIdStrategy == userIdStrategy || this.userIdStrategy.equals(userIdStrategy))
+                    && (this.groupIdStrategy == groupIdStrategy || this.groupIdStrategy.equals(groupIdStrategy));
+        }
+    }
 
     @Extension(optional = true)
     public static class DescriptorImpl extends JobRestrictionDescriptor {
@@ -104,7 +104,11 @@ public abstract class AbstractOwnershipRoleMacro extends RoleMacroExtension {
      */
     public static boolean hasPermission(@CheckForNull User user, RoleType type, AccessControlled item,
                                         Macro macro, boolean acceptSecondaryOwners) {
-        return user != null && getOwnership(type, item).isOwner(user, acceptSecondaryOwners);
+        if (user == null) {
+            return false;
+        }
+        return RoleMacroDecisionCache.get().get(user.getId(), type, item, acceptSecondaryOwners,
+                () -> getOwnership(type, item).isOwner(user, acceptSecondaryOwners));
     }
     
     /**
@@ -68,7 +68,7 @@ public class ItemSpecificRoleMacro extends AbstractOwnershipRoleMacro {
             if (prop != null) {
                 ItemSpecificSecurity sec = prop.getItemSpecificSecurity();
                 if (sec != null) {
-                    return sec.getPermissionsMatrix().hasPermission(sid, p);
+                    return sec.hasPermission(sid, p);
                 }
             }
         }
@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.security.rolestrategy;
+
+import com.synopsys.arc.jenkins.plugins.rolestrategy.RoleType;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Computer;
+import hudson.model.Item;
+import hudson.security.AccessControlled;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Caches decisions of ownership-based role macros.
+ * A single page may invoke hundreds of permission checks for the same item,
+ * and each of them resolves the ownership of the item.
+ * <p>
+ * Decisions are keyed by the user ID, the role type, the item and the secondary owner flag.
+ * The macro and the permission are not a part of the key, because ownership macros do not depend on them.
+ * Decisions are invalidated by {@link OwnershipChangeListener} events:
+ * a change of the item drops decisions for the item and its children, a change of the node drops decisions for its computer.
+ * The number of entries is limited by the {@code RoleMacroDecisionCache.maxSize} system property,
+ * all decisions are dropped when the limit is reached.
+ * @since TODO
+ */
+@Extension(optional = true)
+@Restricted(NoExternalUse.class)
+public class RoleMacroDecisionCache extends OwnershipChangeListener {
+    
+    /**
+     * Maximum number of cached decisions. 
+     * {@code 0} disables the cache.
+     */
+    static int MAX_SIZE = SystemProperties.getInteger(RoleMacroDecisionCache.class.getName() + ".maxSize", 10000);
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    private final ConcurrentMap<DecisionKey, Boolean> decisions = new ConcurrentHashMap<>();
+    
+    @Nonnull
+    public static RoleMacroDecisionCache get() {
+        return ExtensionList.lookupSingleton(RoleMacroDecisionCache.class);
+    }
+    
+    /**
+     * Gets the cached decision or computes it.
+     * @param userId ID of the user
+     * @param type Role type
+     * @param item Item, for which the permission is being checked
+     * @param acceptSecondaryOwners {@code true} if secondary owners are being considered
+     * @param decision Computes the decision if it is not cached
+     * @return Decision
+     */
+    public boolean get(@Nonnull String userId, @Nonnull RoleType type, @CheckForNull AccessControlled item,
+            boolean acceptSecondaryOwners, @Nonnull BooleanSupplier decision) {
+        final String itemKey = getItemKey(item);
+        if (itemKey == null || MAX_SIZE <= 0) {
+            return decision.getAsBoolean();
+        }
+        
+        final DecisionKey key = new DecisionKey(userId, type, itemKey, acceptSecondaryOwners);
+        final Boolean cached = decisions.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        
+        misses.incrementAndGet();
+        final long generation = getGeneration();
+        final boolean res = decision.getAsBoolean();
+        // Do not store decisions, which may have been computed for the outdated ownership
+        if (generation == getGeneration()) {
+            if (decisions.size() >= MAX_SIZE) {
+                evictions.addAndGet(decisions.size());
+                decisions.clear();
+            }
+            decisions.put(key, res);
+            // Notifications increment the generation before invalidating decisions.
+            // If a change has happened between the check and put(), the invalidation may have missed our decision
+            if (generation != getGeneration()) {
+                decisions.remove(key, res);
+            }
+        }
+        return res;
+    }
+    
+    @CheckForNull
+    private static String getItemKey(@CheckForNull AccessControlled item) {
+        if (item instanceof Item) {
+            return "item:" + ((Item) item).getFullName();
+        }
+        if (item instanceof Computer) {
+            return "computer:" + ((Computer) item).getName();
+        }
+        // Unknown type, no caching
+        return null;
+    }
+    
+    /**
+     * Drops decisions for the item and its children.
+     * @param itemKey Key of the item
+     */
+    private void invalidate(@Nonnull String itemKey) {
+        final String prefix = itemKey + "/";
+        decisions.keySet().removeIf(key -> key.itemKey.equals(itemKey) || key.itemKey.startsWith(prefix));
+    }
+    
+    public void invalidateAll() {
+        decisions.clear();
+    }
+
+    @Override
+    public void onChanged(@Nonnull Item item) {
+        invalidate("item:" + item.getFullName());
+    }
+
+    @Override
+    public void onRemoved(@Nonnull String fullName) {
+        invalidate("item:" + fullName);
+    }
+
+    @Override
+    public void onNodeChanged(@Nonnull String nodeName) {
+        final String itemKey = "computer:" + nodeName;
+        decisions.keySet().removeIf(key -> key.itemKey.equals(itemKey));
+    }
+
+    @Override
+    public void onReset() {
+        invalidateAll();
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+    
+    /**
+     * Gets the ratio of requests served from the cache.
+     * @return Hit rate between {@code 0} and {@code 1}. {@code 0} if there was no request 
+     */
+    public double getHitRate() {
+        final long h = hits.get();
+        final long total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+    
+    public int size() {
+        return decisions.size();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("RoleMacroDecisionCache[size=%d, maxSize=%d, hits=%d, misses=%d, evictions=%d]", 
+                size(), MAX_SIZE, getHitCount(), getMissCount(), getEvictionCount());
+    }
+    
+    private static final class DecisionKey {
+        
+        private final String userId;
+        private final RoleType type;
+        private final String itemKey;
+        private final boolean acceptSecondaryOwners;
+
+        DecisionKey(@Nonnull String userId, @Nonnull RoleType type, @Nonnull String itemKey, boolean acceptSecondaryOwners) {
+            this.userId = userId;
+            this.type = type;
+            this.itemKey = itemKey;
+            this.acceptSecondaryOwners = acceptSecondaryOwners;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, type, itemKey, acceptSecondaryOwners);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DecisionKey)) {
+                return false;
+            }
+            final DecisionKey other = (DecisionKey) obj;
+            return acceptSecondaryOwners == other.acceptSecondaryOwners && type == other.type
+                    && userId.equals(other.userId) && itemKey.equals(other.itemKey);
+        }
+    }
+}
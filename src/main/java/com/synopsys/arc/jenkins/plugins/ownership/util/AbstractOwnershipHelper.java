@@ -83,6 +83,18 @@ public abstract class AbstractOwnershipHelper<TObjectType>
         return Collections.emptyList();
     }
     
+    /**
+     * Gets the permission, which should be granted to possible owners of the item.
+     * The permission is being used by the paginated owner search in ownership forms.
+     * @param item Item
+     * @return Permission to be checked. {@code null} if any user can be an owner
+     * @since TODO
+     */
+    @CheckForNull
+    public Permission getPossibleOwnersPermission(@Nonnull TObjectType item) {
+        return null;
+    }
+    
     //TODO: promote to interface
     /**
      * Checks if the summary box should be displayed.
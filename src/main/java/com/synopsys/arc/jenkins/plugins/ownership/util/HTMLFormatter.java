@@ -48,7 +48,18 @@ public class HTMLFormatter {
      * @return User e-mail in the following format: &lt;user@doma.in&gt;
      */
     public static @CheckForNull String formatEmailURI(@Nonnull String userId) {
-        String email = Functions.escape(UserStringFormatter.formatEmail(userId));
+        return formatEmailAddressURI(UserStringFormatter.formatEmail(userId));
+    }
+    
+    /**
+     * Formats the e-mail link.
+     * @param address E-mail address
+     * @return E-mail in the following format: &lt;user@doma.in&gt;. 
+     *         {@code null} if the address is {@code null}
+     * @since TODO
+     */
+    public static @CheckForNull String formatEmailAddressURI(@CheckForNull String address) {
+        String email = Functions.escape(address);
         if (email != null) {
             return "<a href=\"mailto:"+email+"\">&lt;"+email+"&gt;</a>";
         } else {
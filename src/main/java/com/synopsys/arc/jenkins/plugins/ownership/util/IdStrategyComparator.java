@@ -2,20 +2,38 @@ package com.synopsys.arc.jenkins.plugins.ownership.util;
 
 import hudson.security.SecurityRealm;
 import java.util.Comparator;
+import javax.annotation.Nonnull;
 import jenkins.model.IdStrategy;
 import jenkins.model.Jenkins;
 
 
 public class IdStrategyComparator implements Comparator<String> {
 
-    private final SecurityRealm securityRealm;
     private final IdStrategy groupIdStrategy;
     private final IdStrategy userIdStrategy;
 
     public IdStrategyComparator() {
-        securityRealm = Jenkins.get().getSecurityRealm();
-        groupIdStrategy = securityRealm.getGroupIdStrategy();
-        userIdStrategy = securityRealm.getUserIdStrategy();
+        this(Jenkins.get().getSecurityRealm());
+    }
+    
+    /**
+     * Creates a comparator for ID strategies of the specified security realm.
+     * @param securityRealm Security realm
+     * @since TODO
+     */
+    public IdStrategyComparator(@Nonnull SecurityRealm securityRealm) {
+        this(securityRealm.getUserIdStrategy(), securityRealm.getGroupIdStrategy());
+    }
+    
+    /**
+     * Creates a comparator for the specified ID strategies.
+     * @param userIdStrategy User ID strategy
+     * @param groupIdStrategy Group ID strategy
+     * @since TODO
+     */
+    public IdStrategyComparator(@Nonnull IdStrategy userIdStrategy, @Nonnull IdStrategy groupIdStrategy) {
+        this.userIdStrategy = userIdStrategy;
+        this.groupIdStrategy = groupIdStrategy;
     }
 
     public int compare(String o1, String o2) {
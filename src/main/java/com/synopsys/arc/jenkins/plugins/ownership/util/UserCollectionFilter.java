@@ -23,50 +23,101 @@
  */
 package com.synopsys.arc.jenkins.plugins.ownership.util;
 
-import com.synopsys.arc.jenkins.plugins.ownership.util.userFilters.UserComparator;
 import com.synopsys.arc.jenkins.plugins.ownership.util.userFilters.IUserFilter;
 import hudson.model.User;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 /**
  * Filters {@link Collection}s of {@link User}s.
+ * <p>
+ * Cheap filters are applied first, then the remaining users are sorted by collation keys of their full names.
+ * Expensive filters (see {@link IUserFilter#isExpensive()}) are evaluated only for users, which passed other filters.
+ * Paginated searches should use {@link org.jenkinsci.plugins.ownership.util.users.PossibleOwnersSearch} instead.
  * @author Oleg Nenashev
  * @since 0.1
  */
 @Restricted(NoExternalUse.class)
 public class UserCollectionFilter {
-
+    
     @Nonnull
     public static Collection<User> filterUsers(@Nonnull Collection<User> input, boolean enableSort, @Nonnull IUserFilter... filters) {
-        // Sort users
-        UserComparator comparator = new UserComparator();
-        LinkedList<User> userList = new LinkedList<>(User.getAll());
+        // Cheap filters go first, they reduce the number of users to be sorted and checked
+        final List<IUserFilter> expensiveFilters = new ArrayList<>(filters.length);
+        final List<IUserFilter> cheapFilters = new ArrayList<>(filters.length);
+        for (IUserFilter filter : filters) {
+            (filter.isExpensive() ? expensiveFilters : cheapFilters).add(filter);
+        }
+        List<User> candidates = new ArrayList<>(input.size());
+        for (User user : input) {
+            if (user != null && meets(user, cheapFilters)) {
+                candidates.add(user);
+            }
+        }
+        
         if (enableSort) {
-            Collections.sort(userList, comparator);
+            candidates = sort(candidates);
+        }
+        if (expensiveFilters.isEmpty()) {
+            return candidates;
         }
         
-        // Prepare new list
-        Collection<User> res = new ArrayList<>();
-        for (User user : userList) {
-            if (user == null) {
-                continue;
-            }
-            
-            boolean meets = true;
-            for (int i = 0; meets && i < filters.length; i++) {
-                meets = filters[i].filter(user);
-            }
-
-            if (meets) {
+        final List<User> res = new ArrayList<>();
+        for (User user : candidates) {
+            if (meets(user, expensiveFilters)) {
                 res.add(user);
             }
         }
         return res;
     }
+    
+    private static boolean meets(@Nonnull User user, @Nonnull List<IUserFilter> filters) {
+        for (IUserFilter filter : filters) {
+            if (!filter.filter(user)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Nonnull
+    private static List<User> sort(@Nonnull List<User> users) {
+        // Collator is not thread-safe, hence it is created for each call
+        final Collator collator = Collator.getInstance();
+        final List<SortEntry> entries = new ArrayList<>(users.size());
+        for (User user : users) {
+            entries.add(new SortEntry(user, collator.getCollationKey(user.getFullName())));
+        }
+        Collections.sort(entries);
+        
+        final List<User> res = new ArrayList<>(entries.size());
+        for (SortEntry entry : entries) {
+            res.add(entry.user);
+        }
+        return res;
+    }
+    
+    private static final class SortEntry implements Comparable<SortEntry> {
+        
+        private final User user;
+        private final CollationKey key;
+
+        SortEntry(@Nonnull User user, @Nonnull CollationKey key) {
+            this.user = user;
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(SortEntry other) {
+            final int res = key.compareTo(other.key);
+            return res != 0 ? res : user.getId().compareTo(other.user.getId());
+        }
+    }
 }
@@ -23,10 +23,10 @@
  */
 package com.synopsys.arc.jenkins.plugins.ownership.util;
 
-import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
 import hudson.model.User;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
+import org.jenkinsci.plugins.ownership.util.mail.EmailAddressCache;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
@@ -68,6 +68,6 @@ public class UserStringFormatter {
     
     public static @CheckForNull String formatEmail(@CheckForNull User user) {
         return (user != null && user != User.getUnknown()) 
-            ? OwnershipPlugin.getInstance().resolveEmail(user) : null;
+            ? EmailAddressCache.get().resolve(user) : null;
     }
 }
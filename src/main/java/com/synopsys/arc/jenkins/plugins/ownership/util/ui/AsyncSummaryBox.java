@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.util.ui;
+
+import com.synopsys.arc.jenkins.plugins.ownership.IOwnershipHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
+import com.synopsys.arc.jenkins.plugins.ownership.extensions.OwnershipLayoutFormatterProvider;
+import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
+import hudson.model.Job;
+import hudson.model.Node;
+import hudson.model.Run;
+import hudson.model.User;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Objects;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.ownership.config.DisplayOptions;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.jenkinsci.plugins.ownership.model.OwnershipTarget;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+
+/**
+ * Provides data for ownership summary boxes, which are loaded asynchronously.
+ * See {@link DisplayOptions#isAsyncSummaryBoxes()}.
+ * <p>
+ * Responses are validated by an entity tag, which is derived from the ownership generation,
+ * from the state of rendered owner fragments, from the target and from the current user.
+ * So repeated views of the page are answered by 304 responses without formatting the ownership.
+ * Last-Modified is not being sent, the version cannot be mapped to a modification time.
+ * @since TODO
+ */
+@Restricted(NoExternalUse.class)
+public class AsyncSummaryBox {
+    
+    /**
+     * URL of the {@link OwnershipPlugin} endpoint, relative to the root URL.
+     */
+    private static final String SUMMARY_URL = "plugin/ownership/summary";
+    
+    private static final OwnershipLayoutFormatter<Object> DEFAULT_FORMATTER = 
+            new OwnershipLayoutFormatter.DefaultJobFormatter<>();
+    
+    private AsyncSummaryBox() {
+        // Instantiation is prohibited
+    }
+    
+    /**
+     * Checks if summary boxes should be loaded asynchronously.
+     * @return {@code true} if the async mode is enabled
+     */
+    public static boolean isEnabled() {
+        return OwnershipPlugin.getInstance().getConfiguration().getDisplayOptions().isAsyncSummaryBoxes();
+    }
+    
+    /**
+     * Gets URL of the summary data.
+     * @param item Item, which is described by the summary box
+     * @return URL relative to the root URL. 
+     *         {@code null} if the item type is not supported, the box should be rendered inline then.
+     */
+    @CheckForNull
+    public static String getDataUrl(@CheckForNull Object item) {
+        final String reference = OwnershipTarget.getReference(item);
+        if (reference == null) {
+            return null;
+        }
+        try {
+            return SUMMARY_URL + "?target=" + URLEncoder.encode(reference, "UTF-8");
+        } catch (UnsupportedEncodingException ex) {
+            throw new IllegalStateException("Unsupported encoding: UTF-8", ex);
+        }
+    }
+    
+    /**
+     * Serves the summary data.
+     * @param req Request
+     * @param rsp Response
+     * @param reference Reference to the item
+     * @throws IOException Failed to write the response
+     */
+    public static void serve(@Nonnull StaplerRequest2 req, @Nonnull StaplerResponse2 rsp, 
+            @CheckForNull String reference) throws IOException {
+        // Items, which are not visible to the current user, are not resolved
+        final OwnershipTarget<?> target = OwnershipTarget.resolve(reference);
+        if (target == null) {
+            rsp.sendError(404);
+            return;
+        }
+        
+        final User current = User.current();
+        final String version = OwnershipChangeListener.getGeneration() + "-" + OwnerFragmentCache.get().getEpoch() 
+                + "-" + Integer.toHexString(Objects.hash(reference, current != null ? current.getId() : null));
+        final String etag = "W/\"" + version + "\"";
+        
+        rsp.setHeader("Cache-Control", "private, no-cache");
+        rsp.setHeader("ETag", etag);
+        if (etag.equals(req.getHeader("If-None-Match"))) {
+            rsp.setStatus(304);
+            return;
+        }
+        
+        rsp.setContentType("application/json;charset=UTF-8");
+        rsp.getWriter().print(toJSON(target));
+    }
+    
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static <TObjectType> JSONObject toJSON(@Nonnull OwnershipTarget<TObjectType> target) {
+        final TObjectType item = target.getObject();
+        final IOwnershipHelper<TObjectType> helper = target.getHelper();
+        final OwnershipDescription description = helper.getOwnershipDescription(item);
+        final OwnershipLayoutFormatter<TObjectType> formatter = getFormatter(item);
+        
+        final JSONObject res = new JSONObject();
+        res.put("displayed", !(helper instanceof AbstractOwnershipHelper) 
+                || ((AbstractOwnershipHelper<TObjectType>) helper).isDisplayOwnershipSummaryBox(item));
+        res.put("ownershipEnabled", description.isOwnershipEnabled());
+        if (description.isOwnershipEnabled()) {
+            res.put("primaryOwner", formatter.formatOwner(item, helper.getOwner(item)));
+            final JSONArray secondaryOwners = new JSONArray();
+            for (String secondaryOwnerId : description.getSecondaryOwnerIds()) {
+                secondaryOwners.add(formatter.formatOwner(item, secondaryOwnerId));
+            }
+            res.put("secondaryOwners", secondaryOwners);
+            res.put("contactOwnersLink", toJSONValue(formatter.formatContactOwnersLink(item, helper)));
+            res.put("contactAdminsLink", toJSONValue(formatter.formatContactAdminsLink(item, helper)));
+        }
+        return res;
+    }
+    
+    @Nonnull
+    private static Object toJSONValue(@CheckForNull String value) {
+        return value != null ? value : JSONNull.getInstance();
+    }
+    
+    @Nonnull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <TObjectType> OwnershipLayoutFormatter<TObjectType> getFormatter(@Nonnull TObjectType item) {
+        final OwnershipLayoutFormatterProvider provider = OwnershipPlugin.getInstance().getOwnershipLayoutFormatterProvider();
+        if (item instanceof Job) {
+            return (OwnershipLayoutFormatter) provider.getLayoutFormatter((Job<?, ?>) item);
+        } else if (item instanceof Run) {
+            return (OwnershipLayoutFormatter) provider.getLayoutFormatter((Run) item);
+        } else if (item instanceof Node) {
+            return (OwnershipLayoutFormatter) provider.getLayoutFormatter((Node) item);
+        }
+        return (OwnershipLayoutFormatter) DEFAULT_FORMATTER;
+    }
+}
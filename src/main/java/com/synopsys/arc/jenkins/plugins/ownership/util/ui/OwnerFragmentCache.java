@@ -0,0 +1,264 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.util.ui;
+
+import com.synopsys.arc.jenkins.plugins.ownership.util.UserStringFormatter;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.XmlFile;
+import hudson.model.Saveable;
+import hudson.model.User;
+import hudson.model.listeners.SaveableListener;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.jenkinsci.plugins.ownership.util.mail.EmailAddressCache;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Caches HTML fragments of owners rendered by {@link OwnershipLayoutFormatter.DefaultJobFormatter}.
+ * Rendering requires a user lookup, URL encoding, root URL retrieval and e-mail resolution,
+ * while the same owners are displayed on most pages.
+ * <p>
+ * Fragments are keyed by the user ID, the format, the e-mail visibility flag and the root URL.
+ * Fragments of a user are dropped when the user gets saved or deleted, or when the e-mail address changes.
+ * Every fragment stores the e-mail address it has been rendered with. 
+ * The address is validated by {@link EmailAddressCache#isCurrent(User, String)} on every hit,
+ * so that expired addresses get refreshed. 
+ * Fragments with addresses are not cached if {@link EmailAddressCache} is disabled.
+ * All fragments are dropped when the plugin configuration (including {@code MailOptions}) gets saved.
+ * The number of fragments is limited by the {@code maxSize} system property.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class OwnerFragmentCache extends OwnershipChangeListener {
+    
+    /**
+     * Maximum number of cached fragments. 
+     * {@code 0} disables the cache.
+     */
+    static int MAX_SIZE = SystemProperties.getInteger(OwnerFragmentCache.class.getName() + ".maxSize", 5000);
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    
+    /**
+     * Incremented on every invalidation, so that concurrent renderings do not store outdated fragments.
+     */
+    private final AtomicLong epoch = new AtomicLong();
+    
+    // Guarded by this
+    private final Map<FragmentKey, Fragment> fragments = new LinkedHashMap<FragmentKey, Fragment>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FragmentKey, Fragment> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    
+    @Nonnull
+    public static OwnerFragmentCache get() {
+        return ExtensionList.lookupSingleton(OwnerFragmentCache.class);
+    }
+    
+    /**
+     * Gets the cached fragment or renders it.
+     * @param userId ID of the user
+     * @param useLongFormat {@code true} if the long format is used
+     * @param hideEmails {@code true} if e-mails are hidden
+     * @param renderer Renders the fragment if it is missing. 
+     *                 It takes the e-mail address of the user, {@code null} if e-mails are hidden or the address is unknown
+     * @return HTML fragment
+     */
+    @Nonnull
+    public String get(@Nonnull String userId, boolean useLongFormat, boolean hideEmails, 
+            @Nonnull Function<String, String> renderer) {
+        final User user = hideEmails ? null : User.getById(userId, false);
+        if (MAX_SIZE <= 0) {
+            return renderer.apply(UserStringFormatter.formatEmail(user));
+        }
+        
+        final FragmentKey key = new FragmentKey(User.idStrategy().keyFor(userId), 
+                useLongFormat, hideEmails, Jenkins.get().getRootUrl());
+        final Fragment cached;
+        synchronized (this) {
+            cached = fragments.get(key);
+        }
+        final EmailAddressCache emailCache = EmailAddressCache.get();
+        if (cached != null && cached.isCurrent(user, emailCache)) {
+            hits.incrementAndGet();
+            return cached.html;
+        }
+        
+        misses.incrementAndGet();
+        // Resolution may invalidate fragments of the user, hence it goes before the epoch check.
+        // Later changes of the address are detected by the validation of the stored address
+        final String address = UserStringFormatter.formatEmail(user);
+        final long startEpoch = epoch.get();
+        final Fragment fragment = new Fragment(renderer.apply(address), address);
+        if (user == null || emailCache.isEnabled()) {
+            synchronized (this) {
+                if (epoch.get() == startEpoch) {
+                    fragments.put(key, fragment);
+                }
+            }
+        }
+        return fragment.html;
+    }
+    
+    /**
+     * Drops fragments of the user.
+     * @param userId ID of the user
+     */
+    public void invalidate(@Nonnull String userId) {
+        epoch.incrementAndGet();
+        final String userKey = User.idStrategy().keyFor(userId);
+        synchronized (this) {
+            for (Iterator<FragmentKey> it = fragments.keySet().iterator(); it.hasNext();) {
+                if (it.next().userKey.equals(userKey)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Drops all fragments.
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        synchronized (this) {
+            fragments.clear();
+        }
+    }
+    
+    @Override
+    public void onReset() {
+        // Mail options might have been changed
+        invalidateAll();
+    }
+    
+    /**
+     * Gets the invalidation counter.
+     * The value changes whenever any of the rendered fragments may become outdated.
+     * @return Current epoch
+     */
+    public long getEpoch() {
+        return epoch.get();
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public synchronized int size() {
+        return fragments.size();
+    }
+    
+    private static final class Fragment {
+        
+        private final String html;
+        @CheckForNull
+        private final String address;
+
+        Fragment(@Nonnull String html, @CheckForNull String address) {
+            this.html = html;
+            this.address = address;
+        }
+        
+        /**
+         * Checks that the fragment has been rendered with the current e-mail address of the user.
+         * @param user User, {@code null} if e-mails are hidden or the user does not exist
+         */
+        boolean isCurrent(@CheckForNull User user, @Nonnull EmailAddressCache emailCache) {
+            return user == null || user == User.getUnknown() || emailCache.isCurrent(user, address);
+        }
+    }
+    
+    private static final class FragmentKey {
+        
+        private final String userKey;
+        private final boolean useLongFormat;
+        private final boolean hideEmails;
+        @CheckForNull
+        private final String rootUrl;
+
+        FragmentKey(@Nonnull String userKey, boolean useLongFormat, boolean hideEmails, @CheckForNull String rootUrl) {
+            this.userKey = userKey;
+            this.useLongFormat = useLongFormat;
+            this.hideEmails = hideEmails;
+            this.rootUrl = rootUrl;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FragmentKey)) {
+                return false;
+            }
+            final FragmentKey other = (FragmentKey) obj;
+            return useLongFormat == other.useLongFormat && hideEmails == other.hideEmails 
+                    && userKey.equals(other.userKey) && Objects.equals(rootUrl, other.rootUrl);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userKey, useLongFormat, hideEmails, rootUrl);
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class SaveableListenerImpl extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().invalidate(((User) o).getId());
+            }
+        }
+
+        @Override
+        public void onDeleted(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().invalidate(((User) o).getId());
+            }
+        }
+    }
+}
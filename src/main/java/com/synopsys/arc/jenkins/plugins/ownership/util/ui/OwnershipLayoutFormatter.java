@@ -29,6 +29,7 @@ import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
 import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPluginConfiguration;
 import com.synopsys.arc.jenkins.plugins.ownership.util.HTMLFormatter;
 import org.jenkinsci.plugins.ownership.util.mail.OwnershipMailHelper;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 /**
@@ -110,16 +111,20 @@ public abstract class OwnershipLayoutFormatter<TObjectType> {
 
         @Override
         public String formatUser(TObjectType item, String userId) {
+            final boolean hideEmails = OwnershipPluginConfiguration.get().getMailOptions().isHideOwnerAndCoOwnerEmails();
+            return OwnerFragmentCache.get().get(userId, true, hideEmails, address -> renderUser(userId, address));
+        }
+        
+        @Nonnull
+        private static String renderUser(@Nonnull String userId, @CheckForNull String address) {
             StringBuilder rawHtmlBuilder = new StringBuilder();
             rawHtmlBuilder.append(HTMLFormatter.formatUserURI(userId, true));
             
-            // Append e-mail to the output if it is not prohibited.
-            if (!OwnershipPluginConfiguration.get().getMailOptions().isHideOwnerAndCoOwnerEmails()) {
-                final String userEmail = HTMLFormatter.formatEmailURI(userId);
-                if (userEmail != null) {
-                    rawHtmlBuilder.append(' ');
-                    rawHtmlBuilder.append(userEmail);
-                }
+            // The address is not resolved if it is prohibited to display it
+            final String userEmail = HTMLFormatter.formatEmailAddressURI(address);
+            if (userEmail != null) {
+                rawHtmlBuilder.append(' ');
+                rawHtmlBuilder.append(userEmail);
             }
             
             return rawHtmlBuilder.toString();
@@ -127,12 +132,20 @@ public abstract class OwnershipLayoutFormatter<TObjectType> {
 
         @Override
         public String formatContactOwnersLink(TObjectType item, IOwnershipHelper helper) {
-            return OwnershipMailHelper.getContactOwnersMailToURL(item, helper);   
+            return isLazyMailToLinks()
+                    ? OwnershipMailHelper.getContactOwnersLazyURL(item, helper)
+                    : OwnershipMailHelper.getContactOwnersMailToURL(item, helper);   
         }
         
         @Override
         public String formatContactAdminsLink(TObjectType item, IOwnershipHelper helper) {
-            return OwnershipMailHelper.getContactAdminsMailToURL(item, helper);
+            return isLazyMailToLinks()
+                    ? OwnershipMailHelper.getContactAdminsLazyURL(item, helper)
+                    : OwnershipMailHelper.getContactAdminsMailToURL(item, helper);
+        }
+        
+        private static boolean isLazyMailToLinks() {
+            return OwnershipPluginConfiguration.get().getMailOptions().isLazyMailToLinks();
         }
     }
 }
@@ -72,4 +72,13 @@ public class AccessRightsFilter implements IUserFilter {
         
         return  permissionCheckResult;
     } 
+
+    /**
+     * {@inheritDoc}
+     * Permission checks require impersonation of the user in the security realm.
+     */
+    @Override
+    public boolean isExpensive() {
+        return true;
+    }
 }
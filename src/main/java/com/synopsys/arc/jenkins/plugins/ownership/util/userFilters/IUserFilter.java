@@ -39,4 +39,14 @@ public interface IUserFilter {
      * @return true if User passed filter
      */
     boolean filter(@Nonnull User user);
+    
+    /**
+     * Checks if the filter is expensive to evaluate.
+     * Expensive filters are evaluated after other filters.
+     * @return {@code true} if the filter is expensive
+     * @since TODO
+     */
+    default boolean isExpensive() {
+        return false;
+    }
 }
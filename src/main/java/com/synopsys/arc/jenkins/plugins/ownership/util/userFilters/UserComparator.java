@@ -31,7 +31,10 @@ import javax.annotation.Nonnull;
  * Compares two {@link User}s by their full names.
  * @author Oleg Nenashev
  * @since 0.1
+ * @deprecated Not used by the plugin anymore, 
+ *             {@link com.synopsys.arc.jenkins.plugins.ownership.util.UserCollectionFilter} sorts users by collation keys
  */
+@Deprecated
 public class UserComparator implements java.util.Comparator<User>, Serializable
 {
     
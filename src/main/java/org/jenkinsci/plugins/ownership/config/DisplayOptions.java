@@ -41,15 +41,32 @@ import org.kohsuke.stapler.DataBoundConstructor;
  */
 public class DisplayOptions implements Describable<DisplayOptions> {
        
-    public static final DisplayOptions DEFAULT = new DisplayOptions(false, false);
+    public static final DisplayOptions DEFAULT = new DisplayOptions(false, false, false);
     
     private final boolean hideRunOwnership;
     private final boolean hideOwnershipIfNoData;
+    private final boolean asyncSummaryBoxes;
 
-    @DataBoundConstructor
+    /**
+     * @deprecated Use {@link #DisplayOptions(boolean, boolean, boolean)}
+     */
+    @Deprecated
     public DisplayOptions(boolean hideRunOwnership, boolean hideOwnershipIfNoData) {
+        this(hideRunOwnership, hideOwnershipIfNoData, false);
+    }
+
+    /**
+     * Constructor.
+     * @param hideRunOwnership Hide ownership summary boxes on Run pages
+     * @param hideOwnershipIfNoData Hide ownership summary boxes if ownership is not configured
+     * @param asyncSummaryBoxes Load ownership summary boxes after the page rendering
+     * @since TODO
+     */
+    @DataBoundConstructor
+    public DisplayOptions(boolean hideRunOwnership, boolean hideOwnershipIfNoData, boolean asyncSummaryBoxes) {
         this.hideRunOwnership = hideRunOwnership;
         this.hideOwnershipIfNoData = hideOwnershipIfNoData;
+        this.asyncSummaryBoxes = asyncSummaryBoxes;
     }
 
     /**
@@ -68,6 +85,16 @@ public class DisplayOptions implements Describable<DisplayOptions> {
         return hideOwnershipIfNoData;
     }
     
+    /**
+     * Loads Ownership summary boxes asynchronously.
+     * Pages are rendered without resolving the ownership, the data is retrieved by the browser.
+     * @return {@code true} if summary boxes should be loaded asynchronously
+     * @since TODO
+     */
+    public boolean isAsyncSummaryBoxes() {
+        return asyncSummaryBoxes;
+    }
+    
     @Extension
     public static final DescriptorImpl DESCRIPTOR = new DescriptorImpl();
 
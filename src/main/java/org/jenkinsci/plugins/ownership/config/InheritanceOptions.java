@@ -32,6 +32,7 @@ import hudson.model.Describable;
 import hudson.model.Descriptor;
 import hudson.model.ItemGroup;
 import org.jenkinsci.plugins.ownership.model.folders.FolderOwnershipHelper;
+import org.jenkinsci.plugins.ownership.model.runs.RunOwnershipAction;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -43,13 +44,29 @@ import org.kohsuke.stapler.DataBoundConstructor;
  */
 public class InheritanceOptions implements Describable<InheritanceOptions> {
        
-    public static final InheritanceOptions DEFAULT = new InheritanceOptions(false);
+    public static final InheritanceOptions DEFAULT = new InheritanceOptions(false, false);
     
     private final boolean blockInheritanceFromItemGroups;
+    private final boolean snapshotRunOwnership;
 
-    @DataBoundConstructor
+    /**
+     * @deprecated Use {@link #InheritanceOptions(boolean, boolean)}
+     */
+    @Deprecated
     public InheritanceOptions(boolean blockInheritanceFromItemGroups) {
+        this(blockInheritanceFromItemGroups, false);
+    }
+
+    /**
+     * Constructor.
+     * @param blockInheritanceFromItemGroups Block ownership inheritance from item groups
+     * @param snapshotRunOwnership Record ownership of runs at the build start
+     * @since TODO
+     */
+    @DataBoundConstructor
+    public InheritanceOptions(boolean blockInheritanceFromItemGroups, boolean snapshotRunOwnership) {
         this.blockInheritanceFromItemGroups = blockInheritanceFromItemGroups;
+        this.snapshotRunOwnership = snapshotRunOwnership;
     }
 
     /**
@@ -63,6 +80,18 @@ public class InheritanceOptions implements Describable<InheritanceOptions> {
         return blockInheritanceFromItemGroups;
     }
     
+    /**
+     * Records ownership of runs at the build start.
+     * Such runs keep ownership of the job at the build time, and they do not resolve the ownership of the job
+     * when they are displayed.
+     * Runs started without this option inherit the current ownership of their jobs.
+     * @return {@code true} if ownership snapshots should be stored in {@link RunOwnershipAction}s.
+     * @since TODO
+     */
+    public boolean isSnapshotRunOwnership() {
+        return snapshotRunOwnership;
+    }
+    
     @Extension
     public static final DescriptorImpl DESCRIPTOR = new DescriptorImpl();
 
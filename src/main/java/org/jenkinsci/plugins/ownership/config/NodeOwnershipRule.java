@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.config;
+
+import com.synopsys.arc.jenkins.plugins.ownership.Messages;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPluginConfiguration;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.OwnerNodeProperty;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Describable;
+import hudson.model.Descriptor;
+import hudson.model.Label;
+import hudson.util.FormValidation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipRuleTable;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+/**
+ * Assigns ownership to nodes, which have no {@link OwnerNodeProperty}.
+ * Rules are being configured in {@link OwnershipPluginConfiguration}, hence the ownership of agents
+ * does not need to be persisted in the node configurations.
+ * A node matches the rule if it matches all specified conditions, the first matching rule wins.
+ * @since TODO
+ * @see NodeOwnershipRuleTable
+ */
+public class NodeOwnershipRule implements Describable<NodeOwnershipRule> {
+    
+    private final @CheckForNull String labelExpression;
+    private final @CheckForNull String cloudName;
+    private final @CheckForNull String nodeNamePattern;
+    private final @CheckForNull String primaryOwner;
+    private final @CheckForNull String secondaryOwners;
+
+    @DataBoundConstructor
+    public NodeOwnershipRule(@CheckForNull String labelExpression, @CheckForNull String cloudName, 
+            @CheckForNull String nodeNamePattern, @CheckForNull String primaryOwner, 
+            @CheckForNull String secondaryOwners) {
+        this.labelExpression = Util.fixEmptyAndTrim(labelExpression);
+        this.cloudName = Util.fixEmptyAndTrim(cloudName);
+        this.nodeNamePattern = Util.fixEmptyAndTrim(nodeNamePattern);
+        this.primaryOwner = Util.fixEmptyAndTrim(primaryOwner);
+        this.secondaryOwners = Util.fixEmptyAndTrim(secondaryOwners);
+    }
+
+    /**
+     * Gets the label expression, which is evaluated against labels assigned to the node.
+     * The node name is not being considered as a label, use {@link #getNodeNamePattern()} instead.
+     * @return Label expression or {@code null} if labels are not being checked
+     */
+    @CheckForNull
+    public String getLabelExpression() {
+        return labelExpression;
+    }
+
+    /**
+     * Gets the name of the cloud, which provisions the node.
+     * @return Cloud name or {@code null} if the cloud is not being checked
+     */
+    @CheckForNull
+    public String getCloudName() {
+        return cloudName;
+    }
+
+    /**
+     * Gets the regular expression for node names.
+     * @return Pattern or {@code null} if the node name is not being checked
+     */
+    @CheckForNull
+    public String getNodeNamePattern() {
+        return nodeNamePattern;
+    }
+
+    @CheckForNull
+    public String getPrimaryOwner() {
+        return primaryOwner;
+    }
+
+    /**
+     * Gets secondary owners.
+     * @return Comma or whitespace separated list of user IDs
+     */
+    @CheckForNull
+    public String getSecondaryOwners() {
+        return secondaryOwners;
+    }
+    
+    /**
+     * Gets ownership, which is assigned by the rule.
+     * @return Ownership description. {@link OwnershipDescription#DISABLED_DESCR} if the primary owner is not set
+     */
+    @Nonnull
+    public OwnershipDescription getOwnership() {
+        if (primaryOwner == null) {
+            return OwnershipDescription.DISABLED_DESCR;
+        }
+        
+        final List<String> secondaryOwnerIds = new ArrayList<>();
+        if (secondaryOwners != null) {
+            for (String ownerId : secondaryOwners.split("[,\\s]+")) {
+                if (!ownerId.isEmpty()) {
+                    secondaryOwnerIds.add(ownerId);
+                }
+            }
+        }
+        return OwnershipDescription.intern(new OwnershipDescription(true, primaryOwner, 
+                secondaryOwnerIds.isEmpty() ? Collections.<String>emptyList() : secondaryOwnerIds));
+    }
+    
+    @Override
+    public String toString() {
+        return "NodeOwnershipRule{labelExpression=" + labelExpression + ", cloudName=" + cloudName 
+                + ", nodeNamePattern=" + nodeNamePattern + ", primaryOwner=" + primaryOwner + '}';
+    }
+    
+    @Extension
+    public static final DescriptorImpl DESCRIPTOR = new DescriptorImpl();
+
+    @Override
+    public DescriptorImpl getDescriptor() {
+        return DESCRIPTOR;
+    }
+  
+    public static class DescriptorImpl extends Descriptor<NodeOwnershipRule> {
+        
+        @Override
+        public String getDisplayName() {
+            return Messages.NodeOwnershipRule_DisplayName();
+        }
+        
+        public FormValidation doCheckLabelExpression(@QueryParameter String value) {
+            if (Util.fixEmptyAndTrim(value) == null) {
+                return FormValidation.ok();
+            }
+            try {
+                Label.parseExpression(value);
+                return FormValidation.ok();
+            } catch (IllegalArgumentException ex) {
+                return FormValidation.error(ex, Messages.NodeOwnershipRule_InvalidLabelExpression());
+            }
+        }
+        
+        public FormValidation doCheckNodeNamePattern(@QueryParameter String value) {
+            if (Util.fixEmptyAndTrim(value) == null) {
+                return FormValidation.ok();
+            }
+            try {
+                Pattern.compile(value.trim());
+                return FormValidation.ok();
+            } catch (PatternSyntaxException ex) {
+                return FormValidation.error(ex, Messages.NodeOwnershipRule_InvalidNodeNamePattern());
+            }
+        }
+        
+        public FormValidation doCheckPrimaryOwner(@QueryParameter String value) {
+            return Util.fixEmptyAndTrim(value) == null 
+                    ? FormValidation.error(Messages.NodeOwnershipRule_MissingPrimaryOwner()) 
+                    : FormValidation.ok();
+        }
+    }
+}
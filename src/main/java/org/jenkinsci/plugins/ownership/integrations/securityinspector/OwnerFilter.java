@@ -23,8 +23,6 @@
  */
 package org.jenkinsci.plugins.ownership.integrations.securityinspector;
 
-import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
-import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
 import hudson.Util;
 import hudson.model.Descriptor;
 import hudson.model.Item;
@@ -32,7 +30,6 @@ import hudson.model.ItemGroup;
 import hudson.model.TopLevelItem;
 import hudson.model.User;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
@@ -43,7 +40,7 @@ import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.servlet.ServletException;
 import jenkins.model.Jenkins;
-import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
+import org.jenkinsci.plugins.ownership.model.OwnershipIndex;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.StaplerRequest;
@@ -110,52 +107,33 @@ class OwnerFilter {
     public List<TopLevelItem> doFilter(User owner) {
         
         final Jenkins jenkins = Jenkins.get();
-        final List<Item> allItems;
+        final Item folder;
         
         if (report4folder != null) {
-            Item folder = jenkins.getItem(report4folder);
-            if (folder instanceof ItemGroup) {
-                Collection<Item> items = ((ItemGroup)folder).getItems();
-                allItems = new ArrayList<>(items.size());
-                for (Item item : items) {
-                    allItems.add(item);
-                }
-                allItems.add(folder);
-            } else {
+            folder = jenkins.getItem(report4folder);
+            if (!(folder instanceof ItemGroup)) {
                 LOGGER.log(Level.WARNING, report4folder + " is not an ItemGroup");
                 return Collections.emptyList();
             }
         } else {
-            allItems = jenkins.getAllItems(Item.class);
+            folder = null;
         }
         
-        String itemName;
-        
+        // The index contains effective ownership for all items, so we check only owned ones
         List<TopLevelItem> items = new ArrayList<>();
-        OwnershipDescription ownershipDescription;
-        AbstractOwnershipHelper<Item> located;
-        
-        for (Item item : allItems) {
+        for (Item item : OwnershipIndex.get().getItems(owner, true)) {
             
             if (!(item instanceof TopLevelItem)) {
                 continue;
             }
             
-            located = OwnershipHelperLocator.locate(item);
-            if (located == null) {
+            if (folder != null && item != folder && item.getParent() != folder) {
                 continue;
             }
-
-            itemName = item.getFullName();
-            ownershipDescription = located.getOwnershipDescription(item);
             
-            if (ownershipDescription.isOwnershipEnabled()
-                    && ownershipDescription.isOwner(owner, true)) {
-                
-                if (includePattern == null
-                        || includePattern.matcher(itemName).matches()) {
-                    items.add((TopLevelItem) item);
-                }
+            if (includePattern == null
+                    || includePattern.matcher(item.getFullName()).matches()) {
+                items.add((TopLevelItem) item);
             }
         }
              
@@ -0,0 +1,247 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.ExtensionPoint;
+import hudson.XmlFile;
+import hudson.model.Item;
+import hudson.model.Node;
+import hudson.model.Saveable;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.SaveableListener;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import jenkins.model.NodeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Receives notifications about changes, which may modify the effective ownership of items.
+ * The extension point is being used by ownership caches in order to invalidate their data.
+ * Notifications are being generated from {@link ItemListener}, {@link NodeListener} and {@link SaveableListener} events,
+ * so the implementations do not need to track item and node changes on their own.
+ * @since TODO
+ */
+public abstract class OwnershipChangeListener implements ExtensionPoint {
+    
+    private static final Logger LOGGER = Logger.getLogger(OwnershipChangeListener.class.getName());
+    
+    private static final AtomicLong GENERATION = new AtomicLong();
+    
+    /**
+     * Called when the ownership of the item may have changed.
+     * Since the ownership is inherited, the change also applies to all children of the item.
+     * @param item Changed item
+     */
+    public void onChanged(@Nonnull Item item) {
+        // Do nothing by default
+    }
+    
+    /**
+     * Called when the item has been deleted or moved to another location.
+     * The notification also applies to all children of the item.
+     * @param fullName Former full name of the item
+     */
+    public void onRemoved(@Nonnull String fullName) {
+        // Do nothing by default
+    }
+    
+    /**
+     * Called when the ownership of the node may have changed.
+     * The notification is also being sent when the node gets created, renamed or removed.
+     * @param nodeName Name of the node. Empty string for the built-in node.
+     */
+    public void onNodeChanged(@Nonnull String nodeName) {
+        // Do nothing by default
+    }
+    
+    /**
+     * Called when any ownership info may have changed.
+     * It happens on global configuration changes and on configuration reloads.
+     */
+    public void onReset() {
+        // Do nothing by default
+    }
+    
+    /**
+     * Gets the ownership generation.
+     * The value is being incremented on every ownership change notification,
+     * hence it can be used to detect concurrent modifications in caches.
+     * @return Current generation number
+     */
+    public static long getGeneration() {
+        return GENERATION.get();
+    }
+    
+    /**
+     * Returns all the registered {@link OwnershipChangeListener}s.
+     * @return All registered listeners
+     */
+    @Nonnull
+    public static ExtensionList<OwnershipChangeListener> all() {
+        return ExtensionList.lookup(OwnershipChangeListener.class);
+    }
+    
+    /**
+     * Notifies listeners about the item ownership change.
+     * @param item Changed item
+     */
+    public static void fireChanged(@Nonnull Item item) {
+        GENERATION.incrementAndGet();
+        for (OwnershipChangeListener l : all()) {
+            try {
+                l.onChanged(item);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Listener " + l + " failed to process the change of " + item.getFullName(), ex);
+            }
+        }
+    }
+    
+    /**
+     * Notifies listeners about the item removal.
+     * @param fullName Former full name of the item
+     */
+    public static void fireRemoved(@Nonnull String fullName) {
+        GENERATION.incrementAndGet();
+        for (OwnershipChangeListener l : all()) {
+            try {
+                l.onRemoved(fullName);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Listener " + l + " failed to process the removal of " + fullName, ex);
+            }
+        }
+    }
+    
+    /**
+     * Notifies listeners about the node ownership change.
+     * @param nodeName Name of the node. Empty string for the built-in node.
+     */
+    public static void fireNodeChanged(@Nonnull String nodeName) {
+        GENERATION.incrementAndGet();
+        for (OwnershipChangeListener l : all()) {
+            try {
+                l.onNodeChanged(nodeName);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Listener " + l + " failed to process the change of node " + nodeName, ex);
+            }
+        }
+    }
+    
+    /**
+     * Notifies listeners that all ownership info should be considered as changed.
+     */
+    public static void fireReset() {
+        GENERATION.incrementAndGet();
+        for (OwnershipChangeListener l : all()) {
+            try {
+                l.onReset();
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Listener " + l + " failed to process the reset", ex);
+            }
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class ItemListenerImpl extends ItemListener {
+
+        @Override
+        public void onCreated(Item item) {
+            fireChanged(item);
+        }
+
+        @Override
+        public void onCopied(Item src, Item item) {
+            fireChanged(item);
+        }
+        
+        @Override
+        public void onUpdated(Item item) {
+            fireChanged(item);
+        }
+
+        @Override
+        public void onDeleted(Item item) {
+            fireRemoved(item.getFullName());
+        }
+
+        @Override
+        public void onLocationChanged(Item item, String oldFullName, String newFullName) {
+            fireRemoved(oldFullName);
+            fireChanged(item);
+        }
+
+        @Override
+        public void onLoaded() {
+            fireReset();
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class NodeListenerImpl extends NodeListener {
+
+        @Override
+        protected void onCreated(Node node) {
+            fireNodeChanged(node.getNodeName());
+        }
+
+        @Override
+        protected void onUpdated(Node oldOne, Node newOne) {
+            if (!oldOne.getNodeName().equals(newOne.getNodeName())) {
+                fireNodeChanged(oldOne.getNodeName());
+            }
+            fireNodeChanged(newOne.getNodeName());
+        }
+
+        @Override
+        protected void onDeleted(Node node) {
+            fireNodeChanged(node.getNodeName());
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class SaveableListenerImpl extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof Item) {
+                fireChanged((Item) o);
+            } else if (o instanceof Node) {
+                // Node property changes are persisted without NodeListener notifications.
+                // Properties of the built-in node are stored in the global configuration
+                fireNodeChanged(((Node) o).getNodeName());
+            } else if (o instanceof OwnershipPlugin) {
+                // Global configuration defines inheritance and other options
+                fireReset();
+            }
+        }
+    }
+}
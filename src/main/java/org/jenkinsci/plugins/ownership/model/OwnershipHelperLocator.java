@@ -26,7 +26,10 @@ package org.jenkinsci.plugins.ownership.model;
 import com.synopsys.arc.jenkins.plugins.ownership.IOwnershipHelper;
 import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
 import hudson.ExtensionList;
+import hudson.ExtensionListListener;
 import hudson.ExtensionPoint;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import jenkins.model.Jenkins;
@@ -39,8 +42,41 @@ import jenkins.model.Jenkins;
  */
 public abstract class OwnershipHelperLocator <T extends Object> implements ExtensionPoint {
     
+    /**
+     * Maps runtime classes of items to the first {@link OwnershipHelperLocator}, which supports them.
+     * {@link ClassValue} does not prevent unloading of the item classes.
+     */
+    private static final ClassValue<AtomicReference<Dispatch>> DISPATCH = new ClassValue<AtomicReference<Dispatch>>() {
+        @Override
+        protected AtomicReference<Dispatch> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    
+    /**
+     * Generation of {@link #DISPATCH} entries.
+     * Incremented when the extension list gets refreshed by the dynamic plugin loading 
+     * or when the extension list instance changes (e.g. on Jenkins restart within the JVM).
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+    
+    /**
+     * Extension list, to which {@link #LOCATORS_LISTENER} has been added.
+     */
+    @CheckForNull
+    private static volatile ExtensionList<OwnershipHelperLocator> observedLocators;
+    
+    private static final ExtensionListListener LOCATORS_LISTENER = new ExtensionListListener() {
+        @Override
+        public void onChange() {
+            GENERATION.incrementAndGet();
+        }
+    };
+    
     /**
      * Looks up ownership helpers for a class.
+     * The decision should depend on the type of the item only,
+     * because the located extension is being memoized for every runtime class.
      * @param item Item, for which the ownership should be retrieved
      * @return Helper. Returns null if there is no applicable helper provided by this extension.
      */
@@ -78,13 +114,72 @@ public abstract class OwnershipHelperLocator <T extends Object> implements Exten
     @CheckForNull
     @SuppressWarnings("unchecked")
     public static <T> AbstractOwnershipHelper<T> locate(Object item, Class<T> requiredClass) {
-        for (OwnershipHelperLocator<?> helper : all()) {
+        final ExtensionList<OwnershipHelperLocator> locators = all();
+        if (observedLocators != locators) {
+            observe(locators);
+        }
+        
+        final long generation = GENERATION.get();
+        final AtomicReference<Dispatch> slot = DISPATCH.get(item.getClass());
+        final Dispatch dispatch = slot.get();
+        final OwnershipHelperLocator<?> locator = dispatch != null && dispatch.generation == generation 
+                ? dispatch.locator : null;
+        if (locator == NO_LOCATOR) {
+            return null;
+        }
+        if (locator != null) {
+            AbstractOwnershipHelper<?> located = locator.findHelper(item);
+            if (located != null) {
+                return (AbstractOwnershipHelper<T>) located;
+            }
+            // The locator does not follow the type-based contract, use the full scan
+        }
+        
+        for (OwnershipHelperLocator<?> helper : locators) {
             AbstractOwnershipHelper<?> located = helper.findHelper(item);
             //TODO: Helper verification would be useful
             if (located != null) {
+                if (locator == null) {
+                    slot.set(new Dispatch(generation, helper));
+                }
                 return (AbstractOwnershipHelper<T>) located;
             }
         }
+        if (locator == null) {
+            slot.set(new Dispatch(generation, NO_LOCATOR));
+        }
         return null;
     }
+    
+    private static synchronized void observe(@Nonnull ExtensionList<OwnershipHelperLocator> locators) {
+        if (observedLocators != locators) {
+            locators.addListener(LOCATORS_LISTENER);
+            GENERATION.incrementAndGet();
+            observedLocators = locators;
+        }
+    }
+    
+    /**
+     * Marks classes, for which there is no locator.
+     */
+    private static final OwnershipHelperLocator<Object> NO_LOCATOR = new OwnershipHelperLocator<Object>() {
+        @Override
+        public AbstractOwnershipHelper<Object> findHelper(Object item) {
+            return null;
+        }
+    };
+    
+    /**
+     * Located {@link OwnershipHelperLocator} of a class within a {@link #GENERATION}.
+     */
+    private static final class Dispatch {
+        
+        private final long generation;
+        private final OwnershipHelperLocator<?> locator;
+
+        Dispatch(long generation, @Nonnull OwnershipHelperLocator<?> locator) {
+            this.generation = generation;
+            this.locator = locator;
+        }
+    }
 }
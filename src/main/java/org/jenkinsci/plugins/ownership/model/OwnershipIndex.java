@@ -0,0 +1,388 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.NodeOwnerHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.Util;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import hudson.model.Items;
+import hudson.model.Node;
+import hudson.model.User;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.IdStrategy;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Inverted index, which maps owners to the items and nodes they own.
+ * The index contains the effective ownership, i.e. inherited ownership is taken into account.
+ * Owner IDs are normalized by the {@link IdStrategy} of the security realm.
+ * <p>
+ * The index is being built on the first request after the startup or a configuration reload.
+ * Then it is kept up to date by {@link OwnershipChangeListener} events: 
+ * changed items and nodes are being queued and reindexed on the next request, 
+ * so a query costs proportionally to the answer size and to the number of changes since the previous query.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class OwnershipIndex extends OwnershipChangeListener {
+    
+    private static final Logger LOGGER = Logger.getLogger(OwnershipIndex.class.getName());
+    
+    /**
+     * Full names of items, which subtrees should be reindexed.
+     */
+    private final Set<String> pendingItems = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Names of nodes, which should be reindexed.
+     */
+    private final Set<String> pendingNodes = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * If {@code true}, the index needs to be rebuilt from scratch.
+     */
+    private volatile boolean dirty = true;
+    
+    // Fields below are guarded by this
+    private final NavigableMap<String, Owners> itemOwners = new TreeMap<>();
+    private final Map<String, Owners> nodeOwners = new HashMap<>();
+    private final Map<String, OwnedEntries> byOwner = new HashMap<>();
+    @CheckForNull
+    private IdStrategy idStrategy;
+    
+    @Nonnull
+    public static OwnershipIndex get() {
+        return ExtensionList.lookupSingleton(OwnershipIndex.class);
+    }
+    
+    /**
+     * Gets full names of items owned by the user.
+     * @param userId ID of the user
+     * @param includeSecondary If {@code true}, items with the user being a secondary owner will be included
+     * @return Full names of the items in the alphabetical order
+     */
+    @Nonnull
+    public synchronized Set<String> getItems(@Nonnull String userId, boolean includeSecondary) {
+        ensureUpToDate();
+        final OwnedEntries entries = byOwner.get(idStrategy.keyFor(userId));
+        if (entries == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> res = new TreeSet<>(entries.primaryItems);
+        if (includeSecondary) {
+            res.addAll(entries.secondaryItems);
+        }
+        return res;
+    }
+    
+    /**
+     * Gets names of nodes owned by the user.
+     * @param userId ID of the user
+     * @param includeSecondary If {@code true}, nodes with the user being a secondary owner will be included
+     * @return Names of the nodes in the alphabetical order
+     */
+    @Nonnull
+    public synchronized Set<String> getNodes(@Nonnull String userId, boolean includeSecondary) {
+        ensureUpToDate();
+        final OwnedEntries entries = byOwner.get(idStrategy.keyFor(userId));
+        if (entries == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> res = new TreeSet<>(entries.primaryNodes);
+        if (includeSecondary) {
+            res.addAll(entries.secondaryNodes);
+        }
+        return res;
+    }
+    
+    /**
+     * Gets items owned by the user.
+     * Items, which are not visible to the current user, are being skipped.
+     * @param user User
+     * @param includeSecondary If {@code true}, items with the user being a secondary owner will be included
+     * @return Items in the alphabetical order of their full names
+     */
+    @Nonnull
+    public List<Item> getItems(@Nonnull User user, boolean includeSecondary) {
+        final Jenkins jenkins = Jenkins.get();
+        final Set<String> names = getItems(user.getId(), includeSecondary);
+        final List<Item> res = new ArrayList<>(names.size());
+        for (String name : names) {
+            Item item = jenkins.getItemByFullName(name);
+            if (item != null) {
+                res.add(item);
+            }
+        }
+        return res;
+    }
+    
+    /**
+     * Drops the index, it will be rebuilt on the next request.
+     */
+    public void invalidateAll() {
+        dirty = true;
+    }
+    
+    @Override
+    public void onChanged(@Nonnull Item item) {
+        pendingItems.add(item.getFullName());
+    }
+
+    @Override
+    public void onRemoved(@Nonnull String fullName) {
+        pendingItems.add(fullName);
+    }
+
+    @Override
+    public void onNodeChanged(@Nonnull String nodeName) {
+        pendingNodes.add(nodeName);
+    }
+
+    @Override
+    public void onReset() {
+        invalidateAll();
+    }
+    
+    private synchronized void ensureUpToDate() {
+        final IdStrategy currentStrategy = User.idStrategy();
+        if (dirty || !currentStrategy.equals(idStrategy)) {
+            dirty = false;
+            pendingItems.clear();
+            pendingNodes.clear();
+            rebuild(currentStrategy);
+            return;
+        }
+        
+        if (pendingItems.isEmpty() && pendingNodes.isEmpty()) {
+            return;
+        }
+        try (ACLContext ctx = ACL.as2(ACL.SYSTEM2)) {
+            final Jenkins jenkins = Jenkins.get();
+            for (Iterator<String> it = pendingItems.iterator(); it.hasNext();) {
+                final String fullName = it.next();
+                it.remove();
+                reindexItem(jenkins, fullName);
+            }
+            for (Iterator<String> it = pendingNodes.iterator(); it.hasNext();) {
+                final String nodeName = it.next();
+                it.remove();
+                reindexNode(jenkins, nodeName);
+            }
+        }
+    }
+    
+    private void rebuild(@Nonnull IdStrategy strategy) {
+        LOGGER.log(Level.FINE, "Rebuilding the ownership index");
+        itemOwners.clear();
+        nodeOwners.clear();
+        byOwner.clear();
+        idStrategy = strategy;
+        
+        try (ACLContext ctx = ACL.as2(ACL.SYSTEM2)) {
+            final Jenkins jenkins = Jenkins.get();
+            for (Item item : jenkins.allItems(Item.class)) {
+                indexItem(item);
+            }
+            indexNode(jenkins);
+            for (Node node : jenkins.getNodes()) {
+                indexNode(node);
+            }
+        }
+    }
+    
+    private void reindexItem(@Nonnull Jenkins jenkins, @Nonnull String fullName) {
+        // Drop the item and all its children. '0' is the next character after '/'
+        unindexItem(fullName);
+        for (String childName : new ArrayList<>(itemOwners.subMap(fullName + "/", true, fullName + "0", false).keySet())) {
+            unindexItem(childName);
+        }
+        
+        final Item item = jenkins.getItemByFullName(fullName);
+        if (item == null) { // Removed or moved
+            return;
+        }
+        indexItem(item);
+        if (item instanceof ItemGroup) {
+            for (Item child : Items.getAllItems((ItemGroup<?>) item, Item.class)) {
+                indexItem(child);
+            }
+        }
+    }
+    
+    private void reindexNode(@Nonnull Jenkins jenkins, @Nonnull String nodeName) {
+        final Owners owners = nodeOwners.remove(nodeName);
+        if (owners != null) {
+            owners.removeFrom(byOwner, nodeName, false);
+        }
+        
+        final Node node = nodeName.isEmpty() ? jenkins : jenkins.getNode(nodeName);
+        if (node != null) {
+            indexNode(node);
+        }
+    }
+    
+    private void indexItem(@Nonnull Item item) {
+        final AbstractOwnershipHelper<Item> helper = OwnershipHelperLocator.locate(item);
+        if (helper == null) {
+            return;
+        }
+        final Owners owners = Owners.of(helper.getOwnershipInfo(item).getDescription(), idStrategy);
+        if (owners != null) {
+            final String fullName = item.getFullName();
+            itemOwners.put(fullName, owners);
+            owners.addTo(byOwner, fullName, true);
+        }
+    }
+    
+    private void unindexItem(@Nonnull String fullName) {
+        final Owners owners = itemOwners.remove(fullName);
+        if (owners != null) {
+            owners.removeFrom(byOwner, fullName, true);
+        }
+    }
+    
+    private void indexNode(@Nonnull Node node) {
+        final Owners owners = Owners.of(NodeOwnerHelper.Instance.getOwnershipDescription(node), idStrategy);
+        if (owners != null) {
+            final String nodeName = node.getNodeName();
+            nodeOwners.put(nodeName, owners);
+            owners.addTo(byOwner, nodeName, false);
+        }
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return String.format("OwnershipIndex[items=%d, nodes=%d, owners=%d, dirty=%b]", 
+                itemOwners.size(), nodeOwners.size(), byOwner.size(), dirty);
+    }
+    
+    /**
+     * Normalized owner IDs of the item or node.
+     */
+    private static final class Owners {
+        
+        @CheckForNull
+        private final String primary;
+        @Nonnull
+        private final Set<String> secondary;
+
+        private Owners(@CheckForNull String primary, @Nonnull Set<String> secondary) {
+            this.primary = primary;
+            this.secondary = secondary;
+        }
+        
+        @CheckForNull
+        static Owners of(@Nonnull OwnershipDescription descr, @Nonnull IdStrategy strategy) {
+            if (!descr.isOwnershipEnabled()) {
+                return null;
+            }
+            final String primaryOwnerId = Util.fixEmpty(descr.getPrimaryOwnerId());
+            final String primary = primaryOwnerId != null ? strategy.keyFor(primaryOwnerId) : null;
+            final Set<String> secondary = new HashSet<>();
+            for (String id : descr.getSecondaryOwnerIds()) {
+                secondary.add(strategy.keyFor(id));
+            }
+            return new Owners(primary, secondary);
+        }
+        
+        void addTo(@Nonnull Map<String, OwnedEntries> byOwner, @Nonnull String name, boolean isItem) {
+            if (primary != null) {
+                OwnedEntries e = byOwner.computeIfAbsent(primary, k -> new OwnedEntries());
+                (isItem ? e.primaryItems : e.primaryNodes).add(name);
+            }
+            for (String key : secondary) {
+                OwnedEntries e = byOwner.computeIfAbsent(key, k -> new OwnedEntries());
+                (isItem ? e.secondaryItems : e.secondaryNodes).add(name);
+            }
+        }
+        
+        /**
+         * Removes the entry from the owner map.
+         */
+        void removeFrom(@Nonnull Map<String, OwnedEntries> byOwner, @Nonnull String name, boolean isItem) {
+            if (primary != null) {
+                removeEntry(byOwner, primary, name, isItem, true);
+            }
+            for (String key : secondary) {
+                removeEntry(byOwner, key, name, isItem, false);
+            }
+        }
+        
+        private static void removeEntry(@Nonnull Map<String, OwnedEntries> byOwner, @Nonnull String key, 
+                @Nonnull String name, boolean isItem, boolean isPrimary) {
+            final OwnedEntries e = byOwner.get(key);
+            if (e == null) {
+                return;
+            }
+            if (isItem) {
+                (isPrimary ? e.primaryItems : e.secondaryItems).remove(name);
+            } else {
+                (isPrimary ? e.primaryNodes : e.secondaryNodes).remove(name);
+            }
+            if (e.isEmpty()) {
+                byOwner.remove(key);
+            }
+        }
+    }
+    
+    /**
+     * Items and nodes owned by a single owner.
+     */
+    private static final class OwnedEntries {
+        final Set<String> primaryItems = new HashSet<>();
+        final Set<String> secondaryItems = new HashSet<>();
+        final Set<String> primaryNodes = new HashSet<>();
+        final Set<String> secondaryNodes = new HashSet<>();
+        
+        boolean isEmpty() {
+            return primaryItems.isEmpty() && secondaryItems.isEmpty() 
+                    && primaryNodes.isEmpty() && secondaryNodes.isEmpty();
+        }
+    }
+}
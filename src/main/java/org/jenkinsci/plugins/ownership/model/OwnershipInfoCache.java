@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model;
+
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Item;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import org.jenkinsci.plugins.ownership.model.folders.FolderOwnershipHelper;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Caches effective {@link OwnershipInfo} of items.
+ * The cache is being used by {@link JobOwnerHelper} and {@link FolderOwnershipHelper}
+ * in order to avoid walking through the entire {@code ItemGroup} hierarchy on every call.
+ * Entries are keyed by the full name of items and invalidated by {@link OwnershipChangeListener} events:
+ * a change of the item drops the item's entry and entries of all its children.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class OwnershipInfoCache extends OwnershipChangeListener {
+    
+    private final ConcurrentMap<String, OwnershipInfo> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    
+    @Nonnull
+    public static OwnershipInfoCache get() {
+        return ExtensionList.lookupSingleton(OwnershipInfoCache.class);
+    }
+    
+    /**
+     * Gets the cached ownership info or resolves it.
+     * @param <T> Type of the item
+     * @param item Item, for which the ownership info is requested
+     * @param resolver Resolves the effective ownership info if the cache has no entry
+     * @return Ownership info
+     */
+    @Nonnull
+    public <T extends Item> OwnershipInfo get(@Nonnull T item, @Nonnull Function<T, OwnershipInfo> resolver) {
+        final String key = item.getFullName();
+        OwnershipInfo info = cache.get(key);
+        if (info != null) {
+            hits.incrementAndGet();
+            return info;
+        }
+        
+        misses.incrementAndGet();
+        // Resolution walks through parents, which use the cache as well.
+        // We cannot use computeIfAbsent() here, because it does not support recursive updates
+        final long generation = getGeneration();
+        info = resolver.apply(item);
+        // Do not store the value if the ownership has been changed during the resolution
+        if (generation == getGeneration() && cache.putIfAbsent(key, info) == null) {
+            // Notifications increment the generation before invalidating entries.
+            // If a change has happened between the check and putIfAbsent(), the invalidation may have missed our entry
+            if (generation != getGeneration()) {
+                cache.remove(key, info);
+            }
+        }
+        return info;
+    }
+    
+    /**
+     * Drops the entry of the item and entries of its children.
+     * @param fullName Full name of the item
+     */
+    public void invalidate(@Nonnull String fullName) {
+        cache.remove(fullName);
+        final String prefix = fullName + "/";
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+    
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public void onChanged(Item item) {
+        invalidate(item.getFullName());
+    }
+
+    @Override
+    public void onRemoved(String fullName) {
+        invalidate(fullName);
+    }
+
+    @Override
+    public void onReset() {
+        invalidateAll();
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OwnershipInfoCache[size=%d, hits=%d, misses=%d]", size(), getHitCount(), getMissCount());
+    }
+}
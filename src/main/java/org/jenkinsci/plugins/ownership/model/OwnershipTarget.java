@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model;
+
+import com.synopsys.arc.jenkins.plugins.ownership.IOwnershipHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.ComputerOwnerHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.NodeOwnerHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.OwnerNodeProperty;
+import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
+import hudson.model.Computer;
+import hudson.model.Item;
+import hudson.model.Node;
+import hudson.model.Run;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.ownership.model.runs.RunOwnershipHelper;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Object with ownership, which can be referenced from a web page.
+ * References are strings like {@code item:folder/job}, {@code run:folder/job#1}, {@code computer:name} or {@code node:name},
+ * so that endpoints can resolve the object without traversing its URL.
+ * @param <TObjectType> Type of the object
+ * @since TODO
+ */
+@Restricted(NoExternalUse.class)
+public final class OwnershipTarget<TObjectType> {
+    
+    private final TObjectType object;
+    private final IOwnershipHelper<TObjectType> helper;
+
+    private OwnershipTarget(@Nonnull TObjectType object, @Nonnull IOwnershipHelper<TObjectType> helper) {
+        this.object = object;
+        this.helper = helper;
+    }
+
+    @Nonnull
+    public TObjectType getObject() {
+        return object;
+    }
+
+    @Nonnull
+    public IOwnershipHelper<TObjectType> getHelper() {
+        return helper;
+    }
+    
+    /**
+     * Gets a reference to the object.
+     * @param object Object with ownership, e.g. an item, a run or a node
+     * @return Reference or {@code null} if the object type is not supported
+     */
+    @CheckForNull
+    public static String getReference(@CheckForNull Object object) {
+        if (object instanceof Run) {
+            return "run:" + ((Run<?, ?>) object).getExternalizableId();
+        } else if (object instanceof Item) {
+            return "item:" + ((Item) object).getFullName();
+        } else if (object instanceof Computer) {
+            return "computer:" + ((Computer) object).getName();
+        } else if (object instanceof Node) {
+            return "node:" + ((Node) object).getNodeName();
+        } else if (object instanceof OwnerNodeProperty) {
+            final Node node = ((OwnerNodeProperty) object).getNode();
+            return node != null ? "node:" + node.getNodeName() : null;
+        }
+        return null;
+    }
+    
+    /**
+     * Resolves the reference.
+     * Objects, which are not visible to the current user, are not being resolved.
+     * @param reference Reference created by {@link #getReference(java.lang.Object)}
+     * @return Resolved object or {@code null} if it is missing or not visible
+     */
+    @CheckForNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static OwnershipTarget<?> resolve(@CheckForNull String reference) {
+        if (reference == null) {
+            return null;
+        }
+        final int separator = reference.indexOf(':');
+        if (separator < 0) {
+            return null;
+        }
+        
+        final Jenkins jenkins = Jenkins.get();
+        final String name = reference.substring(separator + 1);
+        switch (reference.substring(0, separator)) {
+            case "item":
+                final Item item = jenkins.getItemByFullName(name);
+                if (item == null) {
+                    return null;
+                }
+                final AbstractOwnershipHelper<Item> itemHelper = OwnershipHelperLocator.locate(item);
+                return itemHelper != null ? new OwnershipTarget<>(item, itemHelper) : null;
+            case "run":
+                final Run run = Run.fromExternalizableId(name);
+                return run != null && run.hasPermission(Item.READ) 
+                        ? new OwnershipTarget<Run>(run, RunOwnershipHelper.getInstance()) 
+                        : null;
+            case "computer":
+                final Computer computer = jenkins.getComputer(name);
+                return computer != null && computer.hasPermission(Jenkins.READ) 
+                        ? new OwnershipTarget<>(computer, ComputerOwnerHelper.getInstance()) 
+                        : null;
+            case "node":
+                final Node node = name.isEmpty() ? jenkins : jenkins.getNode(name);
+                return node != null && node.hasPermission(Jenkins.READ) 
+                        ? new OwnershipTarget<>(node, NodeOwnerHelper.Instance) 
+                        : null;
+            default:
+                return null;
+        }
+    }
+}
@@ -85,6 +85,7 @@ public class FolderOwnershipAction extends ItemOwnershipAction<AbstractFolder<?>
         
         JSONObject jsonOwnership = req.getSubmittedForm().getJSONObject("owners");
         OwnershipDescription descr = OwnershipDescription.parseJSON(jsonOwnership);
+        checkPossibleOwner(descr);
         FolderOwnershipHelper.setOwnership(getDescribedItem(), descr);
         
         return HttpResponses.redirectViaContextPath(getDescribedItem().getUrl());
@@ -43,6 +43,7 @@ import javax.annotation.Nonnull;
 import hudson.security.Permission;
 import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
 import org.jenkinsci.plugins.ownership.model.OwnershipInfo;
+import org.jenkinsci.plugins.ownership.model.OwnershipInfoCache;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
@@ -108,7 +109,16 @@ public class FolderOwnershipHelper extends AbstractOwnershipHelper<AbstractFolde
         if (item == null) { // Handle renames, etc.
             return OwnershipInfo.DISABLED_INFO;
         }
-        
+        return OwnershipInfoCache.get().get(item, this::resolveOwnershipInfo);
+    }
+    
+    /**
+     * Resolves the effective ownership info of the folder without using caches.
+     * @param item Folder
+     * @return Ownership info
+     */
+    @Nonnull
+    private OwnershipInfo resolveOwnershipInfo(@Nonnull AbstractFolder<?> item) {
         // Retrieve Ownership from the Folder property
         FolderOwnershipProperty prop = getOwnerProperty(item);
         if (prop != null) {
@@ -142,14 +152,20 @@ public class FolderOwnershipHelper extends AbstractOwnershipHelper<AbstractFolde
     
     @Override
     public Collection<User> getPossibleOwners(AbstractFolder<?> item) {
-        if (OwnershipPlugin.getInstance().isRequiresConfigureRights()) {
-            IUserFilter filter = new AccessRightsFilter(item, AbstractFolder.CONFIGURE);
+        Permission permission = getPossibleOwnersPermission(item);
+        if (permission != null) {
+            IUserFilter filter = new AccessRightsFilter(item, permission);
             return UserCollectionFilter.filterUsers(User.getAll(), true, filter);
         } else {
             return User.getAll();
         }
     }
     
+    @Override
+    public Permission getPossibleOwnersPermission(AbstractFolder<?> item) {
+        return OwnershipPlugin.getInstance().isRequiresConfigureRights() ? AbstractFolder.CONFIGURE : null;
+    }
+    
     /**
      * Sets the ownership information.
      * @param folder Folder to be modified
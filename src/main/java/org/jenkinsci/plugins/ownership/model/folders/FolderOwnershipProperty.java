@@ -54,7 +54,7 @@ public class FolderOwnershipProperty
     OwnershipDescription ownership;
 
     public FolderOwnershipProperty(@CheckForNull OwnershipDescription ownership) {
-        this.ownership = ownership;
+        this.ownership = ownership != null ? OwnershipDescription.intern(ownership) : null;
     }
 
     @Override
@@ -78,7 +78,7 @@ public class FolderOwnershipProperty
      * @throws IOException Property cannot be saved.
      */
     public void setOwnershipDescription(@CheckForNull OwnershipDescription description) throws IOException {
-        ownership = description;
+        ownership = description != null ? OwnershipDescription.intern(description) : null;
         owner.save();
     }    
 
@@ -0,0 +1,254 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.nodes;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPluginConfiguration;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Label;
+import hudson.model.Node;
+import hudson.model.labels.LabelAtom;
+import hudson.slaves.AbstractCloudSlave;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.ownership.config.NodeOwnershipRule;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Compiled table of {@link NodeOwnershipRule}s.
+ * Label expressions and name patterns are being parsed once per configuration,
+ * results of label expressions are being memoized per label set of nodes.
+ * Agents of the same template usually share their labels, so new agents do not evaluate label expressions.
+ * The table is being recompiled when the plugin configuration changes.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class NodeOwnershipRuleTable extends OwnershipChangeListener {
+    
+    private static final Logger LOGGER = Logger.getLogger(NodeOwnershipRuleTable.class.getName());
+    
+    /**
+     * Maximum number of memoized label sets.
+     * The memoized data is being dropped when the limit is reached.
+     */
+    static int MAX_LABEL_SETS = SystemProperties.getInteger(NodeOwnershipRuleTable.class.getName() + ".maxLabelSets", 1000);
+    
+    @CheckForNull
+    private volatile Compiled compiled;
+    
+    @Nonnull
+    public static NodeOwnershipRuleTable get() {
+        return ExtensionList.lookupSingleton(NodeOwnershipRuleTable.class);
+    }
+    
+    /**
+     * Finds the first rule matching the node.
+     * @param node Node
+     * @return Matching rule or {@code null} if there is no such rule
+     */
+    @CheckForNull
+    public NodeOwnershipRule findRule(@Nonnull Node node) {
+        final CompiledRule rule = getCompiled().find(node);
+        return rule != null ? rule.rule : null;
+    }
+    
+    /**
+     * Gets ownership defined by rules.
+     * @param node Node
+     * @return Ownership of the first matching rule. 
+     *         {@link OwnershipDescription#DISABLED_DESCR} if there is no matching rule
+     */
+    @Nonnull
+    public OwnershipDescription getOwnership(@Nonnull Node node) {
+        final CompiledRule rule = getCompiled().find(node);
+        return rule != null ? rule.ownership : OwnershipDescription.DISABLED_DESCR;
+    }
+    
+    @Nonnull
+    private Compiled getCompiled() {
+        final OwnershipPluginConfiguration configuration = OwnershipPlugin.getInstance().getConfiguration();
+        Compiled current = compiled;
+        if (current == null || current.configuration != configuration) {
+            current = new Compiled(configuration);
+            compiled = current;
+        }
+        return current;
+    }
+
+    @Override
+    public void onReset() {
+        compiled = null;
+    }
+    
+    private static final class Compiled {
+        
+        private final OwnershipPluginConfiguration configuration;
+        private final List<CompiledRule> rules;
+        private final Map<Set<LabelAtom>, BitSet> labelMatches = new ConcurrentHashMap<>();
+
+        Compiled(@Nonnull OwnershipPluginConfiguration configuration) {
+            this.configuration = configuration;
+            final List<NodeOwnershipRule> source = configuration.getNodeOwnershipRules();
+            final List<CompiledRule> res = new ArrayList<>(source.size());
+            for (NodeOwnershipRule rule : source) {
+                try {
+                    final CompiledRule compiledRule = new CompiledRule(rule);
+                    if (compiledRule.ownership.isOwnershipEnabled()) {
+                        res.add(compiledRule);
+                    }
+                } catch (IllegalArgumentException ex) {
+                    // Also covers PatternSyntaxException
+                    LOGGER.log(Level.WARNING, "Cannot compile " + rule + ", the rule will be ignored", ex);
+                }
+            }
+            this.rules = Collections.unmodifiableList(res);
+        }
+        
+        @CheckForNull
+        CompiledRule find(@Nonnull Node node) {
+            if (rules.isEmpty()) {
+                return null;
+            }
+            
+            final BitSet matches = getLabelMatches(node);
+            final String cloudName = getCloudName(node);
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                final CompiledRule rule = rules.get(i);
+                if (rule.matchesCloud(cloudName) && rule.matchesName(node.getNodeName())) {
+                    return rule;
+                }
+            }
+            return null;
+        }
+        
+        /**
+         * Gets rules, which match labels of the node.
+         * Self-labels are not included, so that nodes with the same labels share the result.
+         */
+        @Nonnull
+        private BitSet getLabelMatches(@Nonnull Node node) {
+            final Set<LabelAtom> labels = Label.parse(node.getLabelString());
+            BitSet matches = labelMatches.get(labels);
+            if (matches == null) {
+                matches = new BitSet(rules.size());
+                for (int i = 0; i < rules.size(); i++) {
+                    if (rules.get(i).matchesLabels(labels)) {
+                        matches.set(i);
+                    }
+                }
+                if (labelMatches.size() >= MAX_LABEL_SETS) {
+                    labelMatches.clear();
+                }
+                labelMatches.put(labels, matches);
+            }
+            return matches;
+        }
+    }
+    
+    private static final class CompiledRule {
+        
+        private final NodeOwnershipRule rule;
+        private final OwnershipDescription ownership;
+        private final @CheckForNull Label label;
+        private final @CheckForNull Pattern namePattern;
+
+        CompiledRule(@Nonnull NodeOwnershipRule rule) throws IllegalArgumentException, PatternSyntaxException {
+            this.rule = rule;
+            this.ownership = rule.getOwnership();
+            final String labelExpression = rule.getLabelExpression();
+            this.label = labelExpression != null ? Label.parseExpression(labelExpression) : null;
+            final String pattern = rule.getNodeNamePattern();
+            this.namePattern = pattern != null ? Pattern.compile(pattern) : null;
+        }
+        
+        boolean matchesLabels(@Nonnull Set<LabelAtom> labels) {
+            return label == null || label.matches(labels);
+        }
+        
+        boolean matchesCloud(@CheckForNull String cloudName) {
+            final String expected = rule.getCloudName();
+            return expected == null || expected.equals(cloudName);
+        }
+        
+        boolean matchesName(@Nonnull String nodeName) {
+            return namePattern == null || namePattern.matcher(nodeName).matches();
+        }
+    }
+    
+    /**
+     * Gets the name of the cloud, which has provisioned the node.
+     * The core API does not expose the cloud of agents, 
+     * but most cloud implementations provide the {@code getCloudName()} method.
+     * @param node Node
+     * @return Name of the cloud or {@code null} if it cannot be determined
+     */
+    @CheckForNull
+    static String getCloudName(@Nonnull Node node) {
+        if (!(node instanceof AbstractCloudSlave)) {
+            return null;
+        }
+        final Method method = CLOUD_NAME_GETTERS.get(node.getClass());
+        if (method == null) {
+            return null;
+        }
+        try {
+            final Object cloudName = method.invoke(node);
+            return cloudName != null ? cloudName.toString() : null;
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            LOGGER.log(Level.FINE, "Cannot retrieve the cloud name of " + node.getNodeName(), ex);
+            return null;
+        }
+    }
+    
+    private static final ClassValue<Method> CLOUD_NAME_GETTERS = new ClassValue<Method>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                final Method method = type.getMethod("getCloudName");
+                return method.getParameterCount() == 0 ? method : null;
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+    };
+}
@@ -0,0 +1,248 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.nodes;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.NodeOwnerHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.OwnerNodeProperty;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Computer;
+import hudson.model.Node;
+import hudson.slaves.ComputerListener;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import jenkins.model.NodeListener;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * In-memory registry of node ownership.
+ * Entries reference node instances, so that ownership of computers can be resolved 
+ * without lookups in the global node map.
+ * The registry is being maintained by {@link NodeListener} and {@link ComputerListener} events,
+ * renamed nodes are being moved to new names.
+ * Ownership is being updated by {@link OwnershipChangeListener} notifications,
+ * which are sent on {@link OwnerNodeProperty} and node configuration changes.
+ * Hence the data is always up-to-date, and it does not require periodic recalculation.
+ * Nodes without {@link OwnerNodeProperty} get ownership from {@link NodeOwnershipRuleTable}.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class NodeOwnershipTable extends OwnershipChangeListener {
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    @Nonnull
+    public static NodeOwnershipTable get() {
+        return ExtensionList.lookupSingleton(NodeOwnershipTable.class);
+    }
+    
+    /**
+     * Gets ownership of the computer's node.
+     * @param computer Computer
+     * @return Ownership description. {@link OwnershipDescription#DISABLED_DESCR} if the node is missing
+     */
+    @Nonnull
+    public OwnershipDescription get(@Nonnull Computer computer) {
+        final Entry entry = entries.get(computer.getName());
+        if (entry != null && entry.isRegisteredAs(computer.getName())) {
+            return entry.ownership;
+        }
+        return getOwnership(computer.getNode());
+    }
+    
+    /**
+     * Gets the node of the computer.
+     * @param computer Computer
+     * @return Node or {@code null} if the node has been removed
+     */
+    @CheckForNull
+    public Node getNode(@Nonnull Computer computer) {
+        final Entry entry = entries.get(computer.getName());
+        final Node node = entry != null ? entry.getNode() : null;
+        return node != null && node.getNodeName().equals(computer.getName()) ? node : computer.getNode();
+    }
+    
+    /**
+     * Gets ownership of the node.
+     * Nodes, which are not registered by listeners, are not being stored in the table.
+     * @param node Node
+     * @return Ownership description. {@link OwnershipDescription#DISABLED_DESCR} if the node is missing
+     */
+    @Nonnull
+    public OwnershipDescription getOwnership(@CheckForNull Node node) {
+        if (node == null) {
+            // Do not record ownership of deleted nodes
+            return OwnershipDescription.DISABLED_DESCR;
+        }
+        final Entry entry = entries.get(node.getNodeName());
+        if (entry != null && entry.getNode() == node) {
+            return entry.ownership;
+        }
+        // Detached copies, e.g. deserialized or not yet added nodes, must not replace registered nodes
+        return computeOwnership(node);
+    }
+    
+    @Nonnull
+    private static OwnershipDescription computeOwnership(@Nonnull Node node) {
+        final OwnerNodeProperty prop = NodeOwnerHelper.getOwnerProperty(node);
+        return prop != null ? prop.getOwnership() : NodeOwnershipRuleTable.get().getOwnership(node);
+    }
+    
+    /**
+     * Registers the node, which has been added to Jenkins.
+     * Only {@link NodeListener} and {@link ComputerListener} callbacks should register nodes.
+     */
+    private void register(@Nonnull Node node) {
+        final OwnerNodeProperty prop = NodeOwnerHelper.getOwnerProperty(node);
+        if (prop != null) {
+            // Deserialized properties do not reference their nodes
+            prop.setNode(node);
+        }
+        // Computation and invalidation lock the same entry, so outdated values cannot be stored
+        entries.compute(node.getNodeName(), (name, entry) -> 
+                entry != null && entry.getNode() == node ? entry : new Entry(node));
+    }
+    
+    private void unregister(@Nonnull Node node) {
+        entries.computeIfPresent(node.getNodeName(), (name, entry) -> entry.getNode() == node ? null : entry);
+    }
+    
+    /**
+     * Registers the built-in node and all agents of the instance.
+     */
+    private void registerAll() {
+        final Jenkins jenkins = Jenkins.getInstanceOrNull();
+        if (jenkins == null) { // Jenkins is shutting down
+            return;
+        }
+        register(jenkins);
+        for (Node node : jenkins.getNodes()) {
+            register(node);
+        }
+    }
+    
+    private void refresh(@Nonnull String nodeName) {
+        entries.computeIfPresent(nodeName, (name, entry) -> {
+            final Node node = entry.getNode();
+            return node != null && name.equals(node.getNodeName()) ? new Entry(node) : null;
+        });
+    }
+    
+    @Override
+    public void onNodeChanged(@Nonnull String nodeName) {
+        refresh(nodeName);
+    }
+
+    /**
+     * Recalculates ownership of all nodes.
+     * Entries are being rebuilt in place, because the reset happens after nodes have been registered by listeners.
+     */
+    @Override
+    public void onReset() {
+        for (String nodeName : entries.keySet()) {
+            refresh(nodeName);
+        }
+        registerAll();
+    }
+    
+    /**
+     * Checks whether the ownership of the node is being served from the table.
+     */
+    boolean isRegistered(@Nonnull Node node) {
+        final Entry entry = entries.get(node.getNodeName());
+        return entry != null && entry.getNode() == node;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    private static final class Entry {
+        
+        private final WeakReference<Node> node;
+        private final OwnershipDescription ownership;
+
+        Entry(@Nonnull Node node) {
+            this.node = new WeakReference<>(node);
+            this.ownership = computeOwnership(node);
+        }
+        
+        @CheckForNull
+        Node getNode() {
+            return node.get();
+        }
+        
+        /**
+         * Checks that the node still exists and has not been renamed in place.
+         */
+        boolean isRegisteredAs(@Nonnull String nodeName) {
+            final Node n = node.get();
+            return n != null && nodeName.equals(n.getNodeName());
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class NodeListenerImpl extends NodeListener {
+
+        @Override
+        protected void onCreated(Node node) {
+            get().register(node);
+        }
+
+        @Override
+        protected void onUpdated(Node oldOne, Node newOne) {
+            // Renamed nodes are registered under the new name
+            final NodeOwnershipTable table = get();
+            table.unregister(oldOne);
+            table.register(newOne);
+        }
+
+        @Override
+        protected void onDeleted(Node node) {
+            get().unregister(node);
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class ComputerListenerImpl extends ComputerListener {
+
+        /**
+         * Registers nodes, which have been loaded from the disk or added without {@link NodeListener} events.
+         */
+        @Override
+        public void onConfigurationChange() {
+            get().registerAll();
+        }
+    }
+}
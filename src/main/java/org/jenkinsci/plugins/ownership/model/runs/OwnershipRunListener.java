@@ -24,6 +24,8 @@
 
 package org.jenkinsci.plugins.ownership.model.runs;
 
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
 import hudson.Extension;
 import hudson.model.Run;
 import hudson.model.TaskListener;
@@ -31,6 +33,7 @@ import hudson.model.listeners.RunListener;
 
 /**
  * Injects {@link RunOwnershipAction}s to all runs.
+ * Previously created builds are handled by {@link RunOwnershipBackfill}.
  * @author Oleg Nenashev
  * @since 0.6
  */
@@ -40,9 +43,11 @@ public class OwnershipRunListener extends RunListener<Run> {
     @Override
     public void onStarted(Run r, TaskListener listener) {
         if (r.getAction(RunOwnershipAction.class) == null) {
-            r.addAction(new RunOwnershipAction(r));
+            final RunOwnershipSnapshot snapshot = OwnershipPlugin.getInstance().getConfiguration()
+                    .getInheritanceOptions().isSnapshotRunOwnership()
+                    ? RunOwnershipSnapshot.of(JobOwnerHelper.Instance.getOwnershipDescription(r.getParent()))
+                    : null;
+            r.addAction(new RunOwnershipAction(r, snapshot));
         }
     }
-    
-    // TODO: Add actions to previously created builds (?)
 }
@@ -36,6 +36,7 @@ import hudson.model.EnvironmentContributingAction;
 import hudson.model.Job;
 import hudson.model.Run;
 import hudson.security.Permission;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import org.jenkinsci.plugins.ownership.util.environment.EnvSetupOptions;
 
@@ -49,8 +50,37 @@ import org.jenkinsci.plugins.ownership.util.environment.EnvSetupOptions;
 public class RunOwnershipAction extends ItemOwnershipAction<Run> 
          implements EnvironmentContributingAction {
 
+    /**
+     * Ownership of the job at the build start.
+     * {@code null} if the ownership has not been recorded.
+     */
+    @CheckForNull
+    private final RunOwnershipSnapshot ownershipSnapshot;
+
     public RunOwnershipAction(@Nonnull Run describedItem) {
+        this(describedItem, null);
+    }
+
+    /**
+     * Constructor.
+     * @param describedItem Run
+     * @param ownershipSnapshot Ownership of the job at the build start.
+     *      {@code null} if the run should inherit the current ownership of the job
+     * @since TODO
+     */
+    public RunOwnershipAction(@Nonnull Run describedItem, @CheckForNull RunOwnershipSnapshot ownershipSnapshot) {
         super(describedItem);
+        this.ownershipSnapshot = ownershipSnapshot;
+    }
+
+    /**
+     * Gets ownership of the job at the build start.
+     * @return Ownership snapshot or {@code null} if it has not been recorded
+     * @since TODO
+     */
+    @CheckForNull
+    public RunOwnershipSnapshot getOwnershipSnapshot() {
+        return ownershipSnapshot;
     }
 
     @Override
@@ -0,0 +1,422 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.runs;
+
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.XmlFile;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.init.Terminator;
+import hudson.model.Job;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
+import org.kohsuke.stapler.interceptor.RequirePOST;
+
+/**
+ * Attaches {@link RunOwnershipAction}s to builds, which have been created before the plugin installation.
+ * <p>
+ * The task walks through all jobs and lists their build directories, builds are not being loaded.
+ * For every job it writes a {@value #RECORD_FILE_NAME} file, which covers all existing builds.
+ * {@link RunOwnershipBackfillActionFactory} then provides actions for covered builds without persisted actions.
+ * The ownership at the build time is unknown for such builds, hence they always inherit the current ownership of the job
+ * even if {@link org.jenkinsci.plugins.ownership.config.InheritanceOptions#isSnapshotRunOwnership()} is enabled.
+ * <p>
+ * Jobs are being processed in the order of their full names at the rate defined by the {@code jobsPerSecond} property.
+ * The last processed job is being saved every {@code checkpointInterval} jobs,
+ * and the interrupted backfill is being resumed from the checkpoint after the restart.
+ * Jobs, which are already covered by records, are being skipped, so the backfill can be safely restarted.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class RunOwnershipBackfill extends OwnershipChangeListener {
+    
+    private static final Logger LOGGER = Logger.getLogger(RunOwnershipBackfill.class.getName());
+    
+    /**
+     * Name of the per-job record file.
+     */
+    static final String RECORD_FILE_NAME = "ownership-backfill.xml";
+    
+    /**
+     * Maximum number of processed jobs per second.
+     * {@code 0} disables throttling.
+     */
+    static int JOBS_PER_SECOND = SystemProperties.getInteger(RunOwnershipBackfill.class.getName() + ".jobsPerSecond", 10);
+    
+    /**
+     * Number of jobs between checkpoints.
+     */
+    static int CHECKPOINT_INTERVAL = SystemProperties.getInteger(RunOwnershipBackfill.class.getName() + ".checkpointInterval", 100);
+    
+    /**
+     * Marks jobs without records in {@link #records}.
+     */
+    private static final Record NO_RECORD = new Record(0);
+    
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new NamingThreadFactory(new DaemonThreadFactory(), RunOwnershipBackfill.class.getSimpleName()));
+    
+    /**
+     * Loaded per-job records, keyed by the full name of the job.
+     */
+    private final Map<String, Record> records = new ConcurrentHashMap<>();
+    
+    // Guarded by this
+    private State state = new State();
+    
+    @CheckForNull
+    private Future<?> task;
+    
+    @Nonnull
+    public static RunOwnershipBackfill get() {
+        return ExtensionList.lookupSingleton(RunOwnershipBackfill.class);
+    }
+    
+    /**
+     * Gets the record of the job.
+     * @param job Job
+     * @return Record or {@code null} if the job has not been processed
+     */
+    @CheckForNull
+    public Record getRecord(@Nonnull Job<?, ?> job) {
+        final Record record = records.computeIfAbsent(job.getFullName(), name -> {
+            final XmlFile file = getRecordFile(job);
+            if (!file.exists()) {
+                return NO_RECORD;
+            }
+            try {
+                final Object loaded = file.read();
+                return loaded instanceof Record ? (Record) loaded : NO_RECORD;
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Cannot load the run ownership record of " + name, ex);
+                return NO_RECORD;
+            }
+        });
+        return record != NO_RECORD ? record : null;
+    }
+    
+    /**
+     * Starts the backfill.
+     * If the backfill has been stopped or interrupted before, it will be resumed from the checkpoint.
+     * The completed backfill starts from the first job.
+     */
+    public synchronized void start() {
+        if (task != null && !task.isDone()) {
+            return;
+        }
+        if (!state.running) {
+            if (state.startedAt == 0 || state.completedAt != 0) {
+                state = new State();
+                state.startedAt = System.currentTimeMillis();
+            }
+            state.running = true;
+            save();
+        }
+        task = executor.submit(this::execute);
+    }
+    
+    /**
+     * Stops the backfill.
+     * The progress is saved, so the backfill can be resumed later.
+     */
+    public synchronized void stop() {
+        state.running = false;
+        if (task != null) {
+            task.cancel(true);
+            task = null;
+        }
+        save();
+    }
+    
+    public synchronized boolean isRunning() {
+        return state.running;
+    }
+
+    @CheckForNull
+    public synchronized String getCheckpoint() {
+        return state.checkpoint;
+    }
+
+    public synchronized long getProcessedJobs() {
+        return state.processedJobs;
+    }
+
+    public synchronized long getUpdatedJobs() {
+        return state.updatedJobs;
+    }
+    
+    @CheckForNull
+    public synchronized Date getStartedAt() {
+        return state.startedAt != 0 ? new Date(state.startedAt) : null;
+    }
+    
+    @CheckForNull
+    public synchronized Date getCompletedAt() {
+        return state.completedAt != 0 ? new Date(state.completedAt) : null;
+    }
+    
+    @RequirePOST
+    public HttpResponse doStart() {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        start();
+        return HttpResponses.redirectToDot();
+    }
+    
+    @RequirePOST
+    public HttpResponse doStop() {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        stop();
+        return HttpResponses.redirectToDot();
+    }
+    
+    private void execute() {
+        try (ACLContext ctx = ACL.as2(ACL.SYSTEM2)) {
+            final List<Job> jobs = new ArrayList<>(Jenkins.get().getAllItems(Job.class));
+            jobs.sort(Comparator.comparing(Job::getFullName));
+            
+            final long delay = JOBS_PER_SECOND > 0 ? 1000L / JOBS_PER_SECOND : 0;
+            int sinceCheckpoint = 0;
+            for (Job<?, ?> job : jobs) {
+                final String fullName = job.getFullName();
+                synchronized (this) {
+                    if (!state.running) {
+                        return;
+                    }
+                    if (state.checkpoint != null && fullName.compareTo(state.checkpoint) <= 0) {
+                        continue;
+                    }
+                }
+                
+                final boolean updated = backfill(job);
+                synchronized (this) {
+                    state.checkpoint = fullName;
+                    state.processedJobs++;
+                    if (updated) {
+                        state.updatedJobs++;
+                    }
+                    if (++sinceCheckpoint >= CHECKPOINT_INTERVAL) {
+                        sinceCheckpoint = 0;
+                        save();
+                    }
+                }
+                if (delay > 0) {
+                    Thread.sleep(delay);
+                }
+            }
+            
+            synchronized (this) {
+                state.running = false;
+                state.checkpoint = null;
+                state.completedAt = System.currentTimeMillis();
+                save();
+            }
+            LOGGER.log(Level.INFO, "Run ownership backfill has been completed");
+        } catch (InterruptedException ex) {
+            synchronized (this) {
+                save();
+            }
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Run ownership backfill has failed, it will be resumed after the restart", ex);
+            synchronized (this) {
+                save();
+            }
+        }
+    }
+    
+    /**
+     * Writes the record for the job if it has builds, which are not covered yet.
+     * @param job Job
+     * @return {@code true} if the record has been written
+     */
+    boolean backfill(@Nonnull Job<?, ?> job) {
+        final int lastBuildNumber = findLastBuildNumber(job.getBuildDir());
+        if (lastBuildNumber <= 0) {
+            return false;
+        }
+        final Record existing = getRecord(job);
+        if (existing != null && existing.getLastBuildNumber() >= lastBuildNumber) {
+            return false;
+        }
+        
+        final Record record = new Record(lastBuildNumber);
+        try {
+            getRecordFile(job).write(record);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cannot write the run ownership record of " + job.getFullName(), ex);
+            return false;
+        }
+        records.put(job.getFullName(), record);
+        return true;
+    }
+    
+    /**
+     * Finds the highest build number in the build directory.
+     * Only names of the entries are being checked, build records are not being read.
+     */
+    static int findLastBuildNumber(@Nonnull File buildDir) {
+        final String[] names = buildDir.list();
+        if (names == null) {
+            return 0;
+        }
+        int res = 0;
+        for (String name : names) {
+            if (name.isEmpty() || name.length() > 9) {
+                continue;
+            }
+            int number = 0;
+            for (int i = 0; i < name.length() && number >= 0; i++) {
+                final char c = name.charAt(i);
+                number = c >= '0' && c <= '9' ? number * 10 + (c - '0') : -1;
+            }
+            res = Math.max(res, number);
+        }
+        return res;
+    }
+    
+    @Nonnull
+    private static XmlFile getRecordFile(@Nonnull Job<?, ?> job) {
+        return new XmlFile(Jenkins.XSTREAM2, new File(job.getRootDir(), RECORD_FILE_NAME));
+    }
+    
+    @Nonnull
+    private static XmlFile getStateFile() {
+        return new XmlFile(Jenkins.XSTREAM2, new File(Jenkins.get().getRootDir(), RunOwnershipBackfill.class.getName() + ".xml"));
+    }
+    
+    // Guarded by this
+    private void save() {
+        try {
+            getStateFile().write(state);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cannot save the run ownership backfill state", ex);
+        }
+    }
+    
+    private synchronized void load() {
+        final XmlFile file = getStateFile();
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            final Object loaded = file.read();
+            if (loaded instanceof State) {
+                state = (State) loaded;
+            }
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cannot load the run ownership backfill state", ex);
+        }
+    }
+
+    @Override
+    public void onRemoved(@Nonnull String fullName) {
+        // Records are stored in job directories, hence they are moved with jobs
+        final String prefix = fullName + "/";
+        for (Iterator<String> it = records.keySet().iterator(); it.hasNext();) {
+            final String name = it.next();
+            if (name.equals(fullName) || name.startsWith(prefix)) {
+                it.remove();
+            }
+        }
+    }
+    
+    @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+    public static void resume() {
+        final RunOwnershipBackfill backfill = get();
+        backfill.load();
+        if (backfill.isRunning()) {
+            LOGGER.log(Level.INFO, "Resuming run ownership backfill from {0}", backfill.getCheckpoint());
+            backfill.start();
+        }
+    }
+    
+    @Terminator
+    public static void shutdown() {
+        final RunOwnershipBackfill backfill = get();
+        backfill.executor.shutdownNow();
+        synchronized (backfill) {
+            backfill.save();
+        }
+    }
+    
+    /**
+     * Persisted state of the backfill.
+     */
+    private static final class State {
+        private boolean running;
+        @CheckForNull
+        private String checkpoint;
+        private long processedJobs;
+        private long updatedJobs;
+        private long startedAt;
+        private long completedAt;
+    }
+    
+    /**
+     * Per-job record, which covers builds created before the backfill.
+     */
+    public static final class Record {
+        
+        private final int lastBuildNumber;
+
+        Record(int lastBuildNumber) {
+            this.lastBuildNumber = lastBuildNumber;
+        }
+
+        /**
+         * Gets the highest number of covered builds.
+         * @return Build number
+         */
+        public int getLastBuildNumber() {
+            return lastBuildNumber;
+        }
+    }
+}
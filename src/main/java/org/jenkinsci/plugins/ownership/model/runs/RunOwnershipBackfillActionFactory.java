@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.runs;
+
+import hudson.Extension;
+import hudson.model.Action;
+import hudson.model.Run;
+import java.util.Collection;
+import java.util.Collections;
+import static java.util.Collections.singleton;
+import javax.annotation.Nonnull;
+import jenkins.model.TransientActionFactory;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Provides {@link RunOwnershipAction}s for builds covered by {@link RunOwnershipBackfill}.
+ * Builds, which already have persisted actions, are being ignored.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class RunOwnershipBackfillActionFactory extends TransientActionFactory<Run> {
+
+    @Override
+    public Class<Run> type() {
+        return Run.class;
+    }
+
+    @Override
+    public Class<? extends Action> actionType() {
+        return RunOwnershipAction.class;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Collection<? extends Action> createFor(@Nonnull Run target) {
+        final RunOwnershipBackfill.Record record = RunOwnershipBackfill.get().getRecord(target.getParent());
+        if (record == null || target.getNumber() > record.getLastBuildNumber()) {
+            return Collections.emptyList();
+        }
+        // Only persisted actions should be checked, getAction() would call this factory again
+        for (Action action : target.getActions()) {
+            if (action instanceof RunOwnershipAction) {
+                return Collections.emptyList();
+            }
+        }
+        // Ownership at the build time is unknown, so the build inherits the current ownership of the job
+        return singleton(new RunOwnershipAction(target));
+    }
+}
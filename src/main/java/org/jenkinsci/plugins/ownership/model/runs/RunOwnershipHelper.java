@@ -27,12 +27,11 @@ package org.jenkinsci.plugins.ownership.model.runs;
 import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
 import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
 import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
-import com.synopsys.arc.jenkins.plugins.ownership.nodes.OwnerNodeProperty;
 import com.synopsys.arc.jenkins.plugins.ownership.util.AbstractOwnershipHelper;
-import com.synopsys.arc.jenkins.plugins.ownership.util.UserStringFormatter;
 import hudson.Extension;
 import hudson.model.AbstractBuild;
 import hudson.model.BuildListener;
+import hudson.model.Job;
 import hudson.model.Node;
 import hudson.model.Run;
 import java.util.Map;
@@ -42,6 +41,9 @@ import javax.annotation.Nonnull;
 import hudson.security.Permission;
 import org.jenkinsci.plugins.ownership.model.OwnershipHelperLocator;
 import org.jenkinsci.plugins.ownership.model.OwnershipInfo;
+import org.jenkinsci.plugins.ownership.model.jobs.JobOwnershipDescriptionSource;
+import org.jenkinsci.plugins.ownership.model.nodes.NodeOwnershipTable;
+import org.jenkinsci.plugins.ownership.util.environment.OwnershipVariablesCache;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
@@ -75,12 +77,30 @@ public class RunOwnershipHelper extends AbstractOwnershipHelper<Run> {
 
     @Override
     public OwnershipDescription getOwnershipDescription(Run item) {
-        return JobOwnerHelper.Instance.getOwnershipDescription(item.getParent());
+        final RunOwnershipSnapshot snapshot = getOwnershipSnapshot(item);
+        return snapshot != null 
+                ? snapshot.getDescription() 
+                : JobOwnerHelper.Instance.getOwnershipDescription(item.getParent());
     }    
 
     @Override
     public OwnershipInfo getOwnershipInfo(Run item) {
-        return JobOwnerHelper.Instance.getOwnershipInfo(item.getParent());
+        final RunOwnershipSnapshot snapshot = getOwnershipSnapshot(item);
+        return snapshot != null
+                ? new OwnershipInfo(snapshot.getDescription(), new JobOwnershipDescriptionSource(item.getParent()))
+                : JobOwnerHelper.Instance.getOwnershipInfo(item.getParent());
+    }
+    
+    /**
+     * Gets ownership of the job, which has been recorded at the build start.
+     * @param item Run
+     * @return Ownership snapshot or {@code null} if the run inherits the current ownership of the job
+     * @since TODO
+     */
+    @CheckForNull
+    public static RunOwnershipSnapshot getOwnershipSnapshot(@Nonnull Run<?, ?> item) {
+        final RunOwnershipAction action = item.getAction(RunOwnershipAction.class);
+        return action != null ? action.getOwnershipSnapshot() : null;
     }
 
     @Override
@@ -102,8 +122,9 @@ public class RunOwnershipHelper extends AbstractOwnershipHelper<Run> {
             @CheckForNull BuildListener listener, 
             boolean injectJobOwnership, boolean injectNodeOwnership) {
         if (injectJobOwnership) { 
-            OwnershipDescription descr = JobOwnerHelper.Instance.getOwnershipDescription(build.getParent());
-            getVariables(descr, target, "JOB");
+            final Job<?, ?> job = build.getParent();
+            OwnershipDescription descr = JobOwnerHelper.Instance.getOwnershipDescription(job);
+            target.putAll(OwnershipVariablesCache.get().getJobVariables(job.getFullName(), descr));
         }
              
         if (injectNodeOwnership) {
@@ -117,37 +138,9 @@ public class RunOwnershipHelper extends AbstractOwnershipHelper<Run> {
                 return; // Ignore the error
             }
             
-            OwnerNodeProperty prop = node.getNodeProperties().get(OwnerNodeProperty.class);
-            OwnershipDescription descr = prop!=null ? prop.getOwnership() : OwnershipDescription.DISABLED_DESCR;
-            getVariables(descr, target, "NODE");
-        }
-    }
-    
-    //TODO: Replace by OwnershipDescriptionHelper
-    private static void getVariables(OwnershipDescription descr, Map<String, String> target, String prefix) {      
-        target.put(prefix+"_OWNER", descr.hasPrimaryOwner() ? descr.getPrimaryOwnerId() : "");
-        String ownerEmail = UserStringFormatter.formatEmail(descr.getPrimaryOwnerId());  
-        target.put(prefix+"_OWNER_EMAIL", ownerEmail != null ? ownerEmail : "");
-        
-        StringBuilder coowners=new StringBuilder(target.get(prefix+"_OWNER"));   
-        StringBuilder coownerEmails= new StringBuilder(target.get(prefix+"_OWNER_EMAIL"));
-        for (String userId : descr.getCoownersIds()) {
-            if (coowners.length() != 0) {
-                coowners.append(",");
-            }
-            coowners.append(userId);
-            
-            String coownerEmail = UserStringFormatter.formatEmail(userId);
-            if (coownerEmail != null) {
-                //TODO: may corrupt logic on empty owner
-                if (coownerEmails.length() != 0) {
-                    coownerEmails.append(",");
-                }
-                coownerEmails.append(coownerEmail);
-            }       
+            OwnershipDescription descr = NodeOwnershipTable.get().getOwnership(node);
+            target.putAll(OwnershipVariablesCache.get().getNodeVariables(node.getNodeName(), descr));
         }
-        target.put(prefix+"_COOWNERS", coowners.toString());
-        target.put(prefix+"_COOWNERS_EMAILS", coownerEmails.toString());     
     }
 
     @Override
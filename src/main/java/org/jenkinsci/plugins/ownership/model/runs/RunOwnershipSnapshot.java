@@ -0,0 +1,156 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.runs;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Immutable ownership of the job, which has been recorded at the build start.
+ * Snapshots are stored in build records, hence they contain only user IDs.
+ * Unlike {@link OwnershipDescription}, snapshots are not being checked against permissions on deserialization,
+ * so builds can be loaded within any request.
+ * Snapshots are shared between runs with the same ownership.
+ * @since TODO
+ * @see RunOwnershipAction
+ */
+public final class RunOwnershipSnapshot implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * Pool of shared snapshots.
+     */
+    private static final Map<RunOwnershipSnapshot, WeakReference<RunOwnershipSnapshot>> INTERNED = new WeakHashMap<>();
+    
+    /**
+     * Snapshot of the disabled ownership.
+     */
+    public static final RunOwnershipSnapshot DISABLED = new RunOwnershipSnapshot(null, null);
+    
+    @CheckForNull
+    private final String primaryOwnerId;
+    
+    /**
+     * Sorted IDs of secondary owners. {@code null} if there is no secondary owners.
+     */
+    @CheckForNull
+    private final String[] secondaryOwnerIds;
+    
+    private transient volatile OwnershipDescription description;
+
+    private RunOwnershipSnapshot(@CheckForNull String primaryOwnerId, @CheckForNull String[] secondaryOwnerIds) {
+        this.primaryOwnerId = primaryOwnerId;
+        this.secondaryOwnerIds = secondaryOwnerIds;
+    }
+    
+    /**
+     * Creates a snapshot of the ownership.
+     * @param description Ownership description
+     * @return Shared snapshot
+     */
+    @Nonnull
+    public static RunOwnershipSnapshot of(@Nonnull OwnershipDescription description) {
+        if (!description.isOwnershipEnabled() || !description.hasPrimaryOwner()) {
+            return DISABLED;
+        }
+        final Set<String> secondaryOwners = description.getSecondaryOwnerIds();
+        final RunOwnershipSnapshot snapshot = intern(new RunOwnershipSnapshot(description.getPrimaryOwnerId(),
+                secondaryOwners.isEmpty() ? null : secondaryOwners.toArray(new String[0])));
+        if (snapshot.description == null) {
+            snapshot.description = OwnershipDescription.intern(description);
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Gets the recorded ownership.
+     * @return Shared ownership description
+     */
+    @Nonnull
+    public OwnershipDescription getDescription() {
+        OwnershipDescription res = description;
+        if (res == null) {
+            res = primaryOwnerId != null 
+                    ? OwnershipDescription.intern(new OwnershipDescription(true, primaryOwnerId, 
+                            secondaryOwnerIds != null ? Arrays.asList(secondaryOwnerIds) : Collections.<String>emptyList()))
+                    : OwnershipDescription.DISABLED_DESCR;
+            description = res;
+        }
+        return res;
+    }
+    
+    @Nonnull
+    private static RunOwnershipSnapshot intern(@Nonnull RunOwnershipSnapshot snapshot) {
+        if (snapshot.primaryOwnerId == null) {
+            return DISABLED;
+        }
+        synchronized (INTERNED) {
+            final WeakReference<RunOwnershipSnapshot> ref = INTERNED.get(snapshot);
+            final RunOwnershipSnapshot existing = ref != null ? ref.get() : null;
+            if (existing != null) {
+                return existing;
+            }
+            INTERNED.put(snapshot, new WeakReference<>(snapshot));
+            return snapshot;
+        }
+    }
+    
+    private Object readResolve() {
+        return intern(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RunOwnershipSnapshot)) {
+            return false;
+        }
+        final RunOwnershipSnapshot other = (RunOwnershipSnapshot) obj;
+        return Objects.equals(primaryOwnerId, other.primaryOwnerId) 
+                && Arrays.equals(secondaryOwnerIds, other.secondaryOwnerIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(primaryOwnerId) + Arrays.hashCode(secondaryOwnerIds);
+    }
+
+    @Override
+    public String toString() {
+        return "RunOwnershipSnapshot{primaryOwnerId=" + primaryOwnerId 
+                + ", secondaryOwnerIds=" + Arrays.toString(secondaryOwnerIds) + '}';
+    }
+}
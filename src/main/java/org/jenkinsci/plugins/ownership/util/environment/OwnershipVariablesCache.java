@@ -0,0 +1,250 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.util.environment;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.util.UserStringFormatter;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Item;
+import hudson.model.User;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.jenkinsci.plugins.ownership.model.runs.RunOwnershipHelper;
+import org.jenkinsci.plugins.ownership.util.mail.EmailAddressCache;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Caches ownership environment variables injected by {@link RunOwnershipHelper}.
+ * Environment variables are being requested by every build step, 
+ * and the computation resolves e-mails of all co-owners.
+ * <p>
+ * Variables of jobs are keyed by full names, variables of nodes are keyed by node names.
+ * Entries are valid while the ownership description and the cached e-mails of its owners stay the same,
+ * see {@link EmailAddressCache#isCurrent(User, String)}.
+ * They are also dropped by {@link OwnershipChangeListener} events:
+ * a change of the item drops the item's entry and entries of all its children.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class OwnershipVariablesCache extends OwnershipChangeListener {
+    
+    private final ConcurrentMap<String, Variables> jobVariables = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Variables> nodeVariables = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    
+    @Nonnull
+    public static OwnershipVariablesCache get() {
+        return ExtensionList.lookupSingleton(OwnershipVariablesCache.class);
+    }
+    
+    /**
+     * Gets ownership variables of the job.
+     * @param fullName Full name of the job
+     * @param descr Current ownership of the job
+     * @return Immutable map of {@code JOB_*} variables
+     */
+    @Nonnull
+    public Map<String, String> getJobVariables(@Nonnull String fullName, @Nonnull OwnershipDescription descr) {
+        return get(jobVariables, fullName, descr, "JOB");
+    }
+    
+    /**
+     * Gets ownership variables of the node.
+     * @param nodeName Name of the node
+     * @param descr Current ownership of the node
+     * @return Immutable map of {@code NODE_*} variables
+     */
+    @Nonnull
+    public Map<String, String> getNodeVariables(@Nonnull String nodeName, @Nonnull OwnershipDescription descr) {
+        return get(nodeVariables, nodeName, descr, "NODE");
+    }
+    
+    @Nonnull
+    private Map<String, String> get(@Nonnull ConcurrentMap<String, Variables> cache, @Nonnull String key, 
+            @Nonnull OwnershipDescription descr, @Nonnull String prefix) {
+        final EmailAddressCache emailCache = EmailAddressCache.get();
+        if (!emailCache.isEnabled()) {
+            // E-mails may change at any moment
+            return compute(descr, prefix, emailCache).values;
+        }
+        
+        final Variables cached = cache.get(key);
+        if (cached != null && cached.descr.equals(descr) && cached.isCurrent(emailCache)) {
+            hits.incrementAndGet();
+            return cached.values;
+        }
+        
+        misses.incrementAndGet();
+        final long generation = getGeneration();
+        final Variables computed = compute(descr, prefix, emailCache);
+        if (generation == getGeneration()) {
+            // Do not store the value if the ownership has been changed during the computation
+            cache.put(key, computed);
+        }
+        return computed.values;
+    }
+    
+    @Nonnull
+    private static Variables compute(@Nonnull OwnershipDescription descr, @Nonnull String prefix, 
+            @Nonnull EmailAddressCache emailCache) {
+        final Set<String> secondaryOwnerIds = descr.getSecondaryOwnerIds();
+        final String[] userIds = new String[secondaryOwnerIds.size() + 1];
+        final String[] addresses = new String[userIds.length];
+        
+        final String owner = descr.hasPrimaryOwner() ? descr.getPrimaryOwnerId() : "";
+        userIds[0] = descr.getPrimaryOwnerId();
+        addresses[0] = resolve(userIds[0], emailCache);
+        
+        final StringBuilder coowners = new StringBuilder(owner);
+        final StringBuilder coownerEmails = new StringBuilder(addresses[0] != null ? addresses[0] : "");
+        int i = 1;
+        for (String userId : secondaryOwnerIds) {
+            if (coowners.length() != 0) {
+                coowners.append(",");
+            }
+            coowners.append(userId);
+            
+            String coownerEmail = resolve(userId, emailCache);
+            userIds[i] = userId;
+            addresses[i++] = coownerEmail;
+            if (coownerEmail != null) {
+                //TODO: may corrupt logic on empty owner
+                if (coownerEmails.length() != 0) {
+                    coownerEmails.append(",");
+                }
+                coownerEmails.append(coownerEmail);
+            }
+        }
+        
+        final Map<String, String> values = new LinkedHashMap<>(4);
+        values.put(prefix + "_OWNER", owner);
+        values.put(prefix + "_OWNER_EMAIL", addresses[0] != null ? addresses[0] : "");
+        values.put(prefix + "_COOWNERS", coowners.toString());
+        values.put(prefix + "_COOWNERS_EMAILS", coownerEmails.toString());
+        return new Variables(descr, userIds, addresses, Collections.unmodifiableMap(values));
+    }
+    
+    /**
+     * Resolves the e-mail like {@link UserStringFormatter#formatEmail(String)}.
+     */
+    @CheckForNull
+    private static String resolve(@Nonnull String userId, @Nonnull EmailAddressCache emailCache) {
+        final User user = getUser(userId);
+        return user != null ? emailCache.resolve(user) : null;
+    }
+    
+    @CheckForNull
+    private static User getUser(@Nonnull String userId) {
+        final User user = User.getById(userId, false);
+        return user != null && user != User.getUnknown() ? user : null;
+    }
+    
+    /**
+     * Drops variables of the job and of all its children.
+     * @param fullName Full name of the item
+     */
+    public void invalidate(@Nonnull String fullName) {
+        jobVariables.remove(fullName);
+        final String prefix = fullName + "/";
+        jobVariables.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+    
+    public void invalidateAll() {
+        jobVariables.clear();
+        nodeVariables.clear();
+    }
+
+    @Override
+    public void onChanged(Item item) {
+        invalidate(item.getFullName());
+    }
+
+    @Override
+    public void onRemoved(String fullName) {
+        invalidate(fullName);
+    }
+
+    @Override
+    public void onNodeChanged(String nodeName) {
+        nodeVariables.remove(nodeName);
+    }
+
+    @Override
+    public void onReset() {
+        invalidateAll();
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    private static final class Variables {
+        
+        private final OwnershipDescription descr;
+        private final String[] userIds;
+        /**
+         * Addresses of {@link #userIds}, which have been used for the computation.
+         */
+        private final String[] addresses;
+        private final Map<String, String> values;
+
+        Variables(@Nonnull OwnershipDescription descr, @Nonnull String[] userIds, @Nonnull String[] addresses, 
+                @Nonnull Map<String, String> values) {
+            this.descr = descr;
+            this.userIds = userIds;
+            this.addresses = addresses;
+            this.values = values;
+        }
+        
+        /**
+         * Checks that e-mails of owners have not been changed since the computation.
+         * Addresses are not being resolved, missing or changed ones require a recomputation.
+         */
+        boolean isCurrent(@Nonnull EmailAddressCache emailCache) {
+            for (int i = 0; i < userIds.length; i++) {
+                final User user = getUser(userIds[i]);
+                if (user == null ? addresses[i] != null : !emailCache.isCurrent(user, addresses[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.util.mail;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipPlugin;
+import com.synopsys.arc.jenkins.plugins.ownership.util.ui.OwnerFragmentCache;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.XmlFile;
+import hudson.init.Terminator;
+import hudson.model.Saveable;
+import hudson.model.User;
+import hudson.model.listeners.SaveableListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.tasks.MailAddressResolver;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.Stapler;
+
+/**
+ * Caches e-mail addresses of users resolved by {@link OwnershipPlugin#resolveEmail(hudson.model.User)}.
+ * {@link MailAddressResolver}s may query LDAP or SCM servers, 
+ * and owner e-mails are being resolved on every page render and build start.
+ * <p>
+ * Entries are keyed by user IDs and expire after the timeout defined by the {@code ttlSeconds} system property.
+ * Expired entries are still returned while they are being refreshed on a background executor.
+ * Missing entries are being resolved in the current thread, 
+ * but HTTP request threads get no address until the full resolution completes in background,
+ * unless {@link OwnershipPlugin#FAST_RESOLVER_ID} is configured or {@link #resolveBlocking(User)} is used.
+ * The number of entries is limited by the {@code maxSize} system property.
+ * Entries are dropped when the user or the plugin configuration gets saved.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class EmailAddressCache extends OwnershipChangeListener {
+    
+    private static final Logger LOGGER = Logger.getLogger(EmailAddressCache.class.getName());
+    
+    /**
+     * Time to live of resolved addresses in seconds.
+     * {@code 0} disables the cache.
+     */
+    static long TTL_SECONDS = SystemProperties.getLong(EmailAddressCache.class.getName() + ".ttlSeconds", 600L);
+    
+    /**
+     * Maximum number of cached addresses.
+     */
+    static int MAX_SIZE = SystemProperties.getInteger(EmailAddressCache.class.getName() + ".maxSize", 10000);
+    
+    /**
+     * Maximum number of pending background resolutions.
+     * Refreshes are skipped if the queue is full, they will be retried on the next access.
+     */
+    private static final int MAX_PENDING_REFRESHES = 1000;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    /**
+     * Incremented on every invalidation, so that in-flight resolutions do not store outdated addresses.
+     */
+    // Guarded by this
+    private long epoch;
+    
+    /**
+     * Epochs of the last invalidations of keys, which have been invalidated during in-flight resolutions.
+     * Other keys are not affected by these invalidations.
+     */
+    // Guarded by this
+    private final Map<String, Long> invalidatedKeys = new HashMap<>();
+    
+    // Guarded by this
+    private long allInvalidatedAt;
+    
+    // Guarded by this
+    private int pendingResolutions;
+    
+    // Guarded by this
+    private final Map<String, CachedAddress> addresses = new LinkedHashMap<String, CachedAddress>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedAddress> eldest) {
+            if (size() > MAX_SIZE) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+    
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    
+    private final ThreadPoolExecutor executor;
+
+    public EmailAddressCache() {
+        executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, 
+                new LinkedBlockingQueue<Runnable>(MAX_PENDING_REFRESHES),
+                new NamingThreadFactory(new DaemonThreadFactory(), EmailAddressCache.class.getSimpleName()));
+        executor.allowCoreThreadTimeOut(true);
+    }
+    
+    @Nonnull
+    public static EmailAddressCache get() {
+        return ExtensionList.lookupSingleton(EmailAddressCache.class);
+    }
+    
+    /**
+     * Gets the e-mail address of the user.
+     * @param user User
+     * @return E-mail address. {@code null} if it cannot be resolved
+     */
+    @CheckForNull
+    public String resolve(@Nonnull User user) {
+        return resolve(user, false);
+    }
+    
+    /**
+     * Gets the e-mail address of the user.
+     * Missing addresses are being resolved in the current thread even if it is an HTTP request thread.
+     * It should be used by actions, which are explicitly requested by users and cannot proceed without addresses.
+     * @param user User
+     * @return E-mail address. {@code null} if it cannot be resolved
+     */
+    @CheckForNull
+    public String resolveBlocking(@Nonnull User user) {
+        return resolve(user, true);
+    }
+    
+    @CheckForNull
+    private String resolve(@Nonnull User user, boolean blocking) {
+        if (!isEnabled()) {
+            return OwnershipPlugin.getInstance().resolveEmail(user);
+        }
+        
+        final String key = User.idStrategy().keyFor(user.getId());
+        final CachedAddress cached;
+        synchronized (this) {
+            cached = addresses.get(key);
+        }
+        
+        if (cached != null) {
+            if (cached.isExpired(System.nanoTime())) {
+                staleHits.incrementAndGet();
+                scheduleRefresh(key, user);
+            } else {
+                hits.incrementAndGet();
+            }
+            return cached.address;
+        }
+        
+        misses.incrementAndGet();
+        if (!blocking && Stapler.getCurrentRequest2() != null) {
+            // Do not block the page rendering by slow resolvers
+            scheduleRefresh(key, user);
+            return resolveWithoutBlocking(user);
+        }
+        return resolveAndStore(key, user);
+    }
+    
+    /**
+     * Resolves the address if the configured resolver is fast.
+     * Other resolvers may return a different address, so nothing is returned until the refresh completes.
+     */
+    @CheckForNull
+    private static String resolveWithoutBlocking(@Nonnull User user) {
+        final OwnershipPlugin plugin = OwnershipPlugin.getInstance();
+        return OwnershipPlugin.FAST_RESOLVER_ID.equals(plugin.getMailResolverClassName()) 
+                ? plugin.resolveEmail(user) : null;
+    }
+    
+    /**
+     * Drops the cached address of the user.
+     * @param userId ID of the user
+     */
+    public void invalidate(@Nonnull String userId) {
+        final String key = User.idStrategy().keyFor(userId);
+        synchronized (this) {
+            epoch++;
+            addresses.remove(key);
+            if (pendingResolutions > 0) {
+                if (invalidatedKeys.size() >= MAX_SIZE) {
+                    // Too many changes, invalidate all in-flight resolutions
+                    allInvalidatedAt = epoch;
+                    invalidatedKeys.clear();
+                } else {
+                    invalidatedKeys.put(key, epoch);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Drops all cached addresses.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            epoch++;
+            addresses.clear();
+            allInvalidatedAt = epoch;
+            invalidatedKeys.clear();
+        }
+    }
+    
+    @Override
+    public void onReset() {
+        // Mail resolver settings might have been changed
+        invalidateAll();
+    }
+    
+    private void scheduleRefresh(@Nonnull final String key, @Nonnull final User user) {
+        if (!pendingRefreshes.add(key)) {
+            return; // Already scheduled
+        }
+        
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try (ACLContext ctx = ACL.as2(ACL.SYSTEM2)) {
+                        refreshes.incrementAndGet();
+                        resolveAndStore(key, user);
+                    } catch (RuntimeException ex) {
+                        LOGGER.log(Level.WARNING, "Failed to resolve e-mail of user " + user.getId(), ex);
+                    } finally {
+                        pendingRefreshes.remove(key);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            pendingRefreshes.remove(key);
+            LOGGER.log(Level.FINE, "Skipping refresh of the e-mail of user {0}, the queue is full", user.getId());
+        }
+    }
+    
+    @CheckForNull
+    private String resolveAndStore(@Nonnull String key, @Nonnull User user) {
+        final long startEpoch;
+        synchronized (this) {
+            startEpoch = epoch;
+            pendingResolutions++;
+        }
+        
+        final String address;
+        final CachedAddress previous;
+        try {
+            address = OwnershipPlugin.getInstance().resolveEmail(user);
+            synchronized (this) {
+                if (isInvalidatedSince(key, startEpoch)) {
+                    return address;
+                }
+                previous = addresses.put(key, new CachedAddress(address, 
+                        System.nanoTime() + TimeUnit.SECONDS.toNanos(TTL_SECONDS)));
+            }
+        } finally {
+            synchronized (this) {
+                if (--pendingResolutions == 0) {
+                    invalidatedKeys.clear();
+                }
+            }
+        }
+        if (previous == null || !Objects.equals(previous.address, address)) {
+            // Rendered fragments may contain a provisional or outdated address
+            OwnerFragmentCache.get().invalidate(user.getId());
+        }
+        return address;
+    }
+    
+    // Guarded by this
+    private boolean isInvalidatedSince(@Nonnull String key, long startEpoch) {
+        if (allInvalidatedAt > startEpoch) {
+            return true;
+        }
+        final Long invalidatedAt = invalidatedKeys.get(key);
+        return invalidatedAt != null && invalidatedAt > startEpoch;
+    }
+    
+    /**
+     * Checks that the cached address of the user is equal to the specified one.
+     * Missing addresses are not being resolved, expired addresses are being refreshed in background.
+     * It allows validating values derived from previously resolved addresses.
+     * @param user User
+     * @param address Previously resolved address
+     * @return {@code true} if the address is cached and equal to the specified one
+     */
+    public boolean isCurrent(@Nonnull User user, @CheckForNull String address) {
+        final String key = User.idStrategy().keyFor(user.getId());
+        final CachedAddress cached;
+        synchronized (this) {
+            cached = addresses.get(key);
+        }
+        if (cached == null || !Objects.equals(cached.address, address)) {
+            return false;
+        }
+        if (cached.isExpired(System.nanoTime())) {
+            scheduleRefresh(key, user);
+        }
+        return true;
+    }
+    
+    /**
+     * Checks whether addresses are being cached.
+     * @return {@code false} if the cache is disabled by system properties
+     */
+    public boolean isEnabled() {
+        return TTL_SECONDS > 0 && MAX_SIZE > 0;
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    /**
+     * Gets the number of expired addresses, which have been returned while being refreshed.
+     * @return Number of stale hits
+     */
+    public long getStaleHitCount() {
+        return staleHits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public long getRefreshCount() {
+        return refreshes.get();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+    
+    public synchronized int size() {
+        return addresses.size();
+    }
+    
+    @Terminator
+    public static void shutdown() {
+        get().executor.shutdownNow();
+    }
+    
+    private static final class CachedAddress {
+        
+        @CheckForNull
+        private final String address;
+        private final long expiresAt;
+
+        CachedAddress(@CheckForNull String address, long expiresAt) {
+            this.address = address;
+            this.expiresAt = expiresAt;
+        }
+        
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class SaveableListenerImpl extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().invalidate(((User) o).getId());
+            }
+        }
+
+        @Override
+        public void onDeleted(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().invalidate(((User) o).getId());
+            }
+        }
+    }
+}
@@ -50,6 +50,7 @@ public class MailOptions implements Describable<MailOptions> {
     private final @CheckForNull String emailListSeparator;
     private final @CheckForNull String adminsContactEmail;
     private final boolean hideOwnerAndCoOwnerEmails;
+    private final boolean lazyMailToLinks;
 
     private static final String DEFAULT_LIST_SEPARATOR = ";";
      
@@ -66,7 +67,7 @@ public class MailOptions implements Describable<MailOptions> {
             String contactAdminsSubjectTemplate, String contactAdminsBodyTemplate, 
             boolean contactAdminsLinkDisabled,
             String adminsContactEmail, String emailListSeparator,
-            boolean hideOwnerAndCoOwnerEmails) {
+            boolean hideOwnerAndCoOwnerEmails, boolean lazyMailToLinks) {
         this.contactOwnersSubjectTemplate = contactOwnersSubjectTemplate;
         this.contactOwnersBodyTemplate = contactOwnersBodyTemplate;
         this.contactOwnersLinkDisabled = contactOwnersLinkDisabled;
@@ -78,6 +79,20 @@ public class MailOptions implements Describable<MailOptions> {
         this.emailListSeparator = emailListSeparator;
         this.adminsContactEmail = adminsContactEmail;   
         this.hideOwnerAndCoOwnerEmails = hideOwnerAndCoOwnerEmails;
+        this.lazyMailToLinks = lazyMailToLinks;
+    }
+    
+    @Deprecated
+    public MailOptions(
+            String contactOwnersSubjectTemplate, String contactOwnersBodyTemplate, 
+            boolean contactOwnersLinkDisabled, 
+            String contactAdminsSubjectTemplate, String contactAdminsBodyTemplate, 
+            boolean contactAdminsLinkDisabled,
+            String adminsContactEmail, String emailListSeparator,
+            boolean hideOwnerAndCoOwnerEmails) {
+        this(contactOwnersSubjectTemplate, contactOwnersBodyTemplate, contactOwnersLinkDisabled, 
+             contactAdminsSubjectTemplate, contactAdminsBodyTemplate, contactAdminsLinkDisabled, 
+             adminsContactEmail, emailListSeparator, hideOwnerAndCoOwnerEmails, false);
     }
     
     @Deprecated
@@ -158,6 +173,17 @@ public class MailOptions implements Describable<MailOptions> {
     public boolean isHideOwnerAndCoOwnerEmails() {
         return hideOwnerAndCoOwnerEmails;
     }
+    
+    /**
+     * Checks if contact links should be generated on demand.
+     * In such case the page contains links to the plugin, 
+     * which resolve e-mails and build mailto URLs only when clicked.
+     * @return {@code true} if the mailto URLs should not be built during the page rendering
+     * @since TODO
+     */
+    public boolean isLazyMailToLinks() {
+        return lazyMailToLinks;
+    }
    
     @Extension
     public static final DescriptorImpl DESCRIPTOR = new DescriptorImpl();
@@ -31,13 +31,18 @@ import com.synopsys.arc.jenkins.plugins.ownership.util.UserStringFormatter;
 import hudson.Util;
 import hudson.model.User;
 import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.ownership.model.OwnershipTarget;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 /**
  *
@@ -46,6 +51,11 @@ import jenkins.model.Jenkins;
 public class OwnershipMailHelper {
    
     private static enum Mode { ContactOwners, ContactAdmins };
+    
+    /**
+     * Name of the {@link OwnershipPlugin} endpoint, which builds mailto URLs on demand.
+     */
+    private static final String LAZY_MAILTO_URL = "plugin/ownership/mailTo";
 
     /**
      * Generate a mailto URL, which allows to contact owners.
@@ -58,19 +68,106 @@ public class OwnershipMailHelper {
      */
     public static <TObjectType> String getContactOwnersMailToURL (TObjectType item, 
             IOwnershipHelper<TObjectType> helper) {
-        return getMailToURL(item, helper, Mode.ContactOwners);
+        return getMailToURL(item, helper, Mode.ContactOwners, false);
     }
     
     public static <TObjectType> String getContactAdminsMailToURL (TObjectType item, 
             IOwnershipHelper<TObjectType> helper) {
-        return getMailToURL(item, helper, Mode.ContactAdmins);
+        return getMailToURL(item, helper, Mode.ContactAdmins, false);
     }
     
-    private static <TObjectType> String getMailToURL (TObjectType item, 
+    /**
+     * Generates a link, which builds the contact owners mailto URL on demand.
+     * E-mails are not being resolved during the call.
+     * @param <TObjectType> Item type
+     * @param item Item with ownership description's
+     * @param helper Variables resolution helper
+     * @return URL of the link or null if it is not available
+     * @since TODO
+     */
+    @CheckForNull
+    public static <TObjectType> String getContactOwnersLazyURL(TObjectType item, 
+            IOwnershipHelper<TObjectType> helper) {
+        return getLazyMailToURL(item, helper, Mode.ContactOwners);
+    }
+    
+    /**
+     * Generates a link, which builds the contact admins mailto URL on demand.
+     * @param <TObjectType> Item type
+     * @param item Item with ownership description's
+     * @param helper Variables resolution helper
+     * @return URL of the link or null if it is not available
+     * @since TODO
+     */
+    @CheckForNull
+    public static <TObjectType> String getContactAdminsLazyURL(TObjectType item, 
+            IOwnershipHelper<TObjectType> helper) {
+        return getLazyMailToURL(item, helper, Mode.ContactAdmins);
+    }
+    
+    /**
+     * Builds the mailto URL for the link generated by {@link #getContactOwnersLazyURL(java.lang.Object, com.synopsys.arc.jenkins.plugins.ownership.IOwnershipHelper)}
+     * or {@link #getContactAdminsLazyURL(java.lang.Object, com.synopsys.arc.jenkins.plugins.ownership.IOwnershipHelper)}.
+     * Items, which are not visible to the current user, are not being resolved.
+     * @param mode Mode from the link
+     * @param target Reference to the item from the link
+     * @return MailTo URL or null if it is not available
+     * @since TODO
+     */
+    @CheckForNull
+    @Restricted(NoExternalUse.class)
+    public static String resolveLazyMailToURL(@CheckForNull String mode, @CheckForNull String target) {
+        final Mode parsedMode;
+        try {
+            parsedMode = mode != null ? Mode.valueOf(mode) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        if (parsedMode == null) {
+            return null;
+        }
+        
+        final OwnershipTarget<?> resolved = OwnershipTarget.resolve(target);
+        return resolved != null ? getMailToURL(resolved, parsedMode) : null;
+    }
+    
+    @CheckForNull
+    private static <TObjectType> String getMailToURL(@Nonnull OwnershipTarget<TObjectType> target, Mode mode) {
+        // The link has been clicked, so the addresses are required even if they are not cached yet
+        return getMailToURL(target.getObject(), target.getHelper(), mode, true);
+    }
+    
+    @CheckForNull
+    private static <TObjectType> String getLazyMailToURL(TObjectType item, 
             IOwnershipHelper<TObjectType> helper, Mode mode) {
+        final MailOptions mailOptions = getEnabledMailOptions(item, helper, mode);
+        if (mailOptions == null) {
+            return null;
+        }
+        
+        final String target = OwnershipTarget.getReference(item);
+        // Root URL is known during HTTP requests even if it is not configured
+        final String rootUrl = Jenkins.get().getRootUrl();
+        if (target == null || rootUrl == null) {
+            // Unsupported item type or no request context, build the link immediately
+            return getMailToURL(item, helper, mode, false);
+        }
+        try {
+            return rootUrl + LAZY_MAILTO_URL + "?mode=" + mode.name() 
+                    + "&target=" + URLEncoder.encode(target, "UTF-8");
+        } catch (UnsupportedEncodingException ex) {
+            throw new IllegalStateException("Unsupported encoding: UTF-8", ex);
+        }
+    }
     
-        final Jenkins instance = Jenkins.get();
-        final OwnershipPlugin plugin = instance.getPlugin(OwnershipPlugin.class);
+    /**
+     * Checks if the contact link should be displayed.
+     * @return Mail options or {@code null} if the link is not available
+     */
+    @CheckForNull
+    private static <TObjectType> MailOptions getEnabledMailOptions(TObjectType item, 
+            IOwnershipHelper<TObjectType> helper, Mode mode) {
+        final OwnershipPlugin plugin = Jenkins.get().getPlugin(OwnershipPlugin.class);
         if (plugin == null) {
             // Plugin is not initialized
             assert false : "Ownership plugin has not been loaded yet";
@@ -97,6 +194,18 @@ public class OwnershipMailHelper {
             default:
                 // Do nothing
         }
+        return mailOptions;
+    }
+    
+    private static <TObjectType> String getMailToURL (TObjectType item, 
+            IOwnershipHelper<TObjectType> helper, Mode mode, boolean blocking) {
+    
+        final Jenkins instance = Jenkins.get();
+        final MailOptions mailOptions = getEnabledMailOptions(item, helper, mode);
+        if (mailOptions == null) {
+            return null;
+        }
+        final OwnershipDescription ownershipDescription = helper.getOwnershipDescription(item);
 
         // Prepare the data        
         final List<String> to = new LinkedList<>();
@@ -105,7 +214,7 @@ public class OwnershipMailHelper {
         
         // to - job owner
         if (ownershipDescription.hasPrimaryOwner()) {
-            String email = UserStringFormatter.formatEmail(ownershipDescription.getPrimaryOwnerId());
+            String email = resolveEmail(ownershipDescription.getPrimaryOwnerId(), blocking);
             if (email != null) {
                 switch (mode) {
                    case ContactAdmins:
@@ -121,7 +230,7 @@ public class OwnershipMailHelper {
         final Set<String> coOwners = ownershipDescription.getSecondaryOwnerIds();
         if (!coOwners.isEmpty()) {
             for (String coOwnerId : coOwners) {
-                String email = UserStringFormatter.formatEmail(coOwnerId);
+                String email = resolveEmail(coOwnerId, blocking);
                 if (email != null) {
                     cc.add(email);
                 }
@@ -156,6 +265,19 @@ public class OwnershipMailHelper {
         }    
     }
     
+    /**
+     * Resolves the e-mail address of the user.
+     * @param blocking Resolve missing addresses in the current thread even during HTTP requests
+     */
+    @CheckForNull
+    private static String resolveEmail(@Nonnull String userId, boolean blocking) {
+        if (!blocking) {
+            return UserStringFormatter.formatEmail(userId);
+        }
+        final User user = User.getById(userId, false);
+        return user != null && user != User.getUnknown() ? EmailAddressCache.get().resolveBlocking(user) : null;
+    }
+    
     private static @Nonnull <TObjectType> Map<String,String> getSubstitutionVars(
             @Nonnull Jenkins jenkins,
             @Nonnull TObjectType item,
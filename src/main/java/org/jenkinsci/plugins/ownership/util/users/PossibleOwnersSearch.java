@@ -0,0 +1,236 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.util.users;
+
+import com.synopsys.arc.jenkins.plugins.ownership.util.userFilters.AccessRightsFilter;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Computer;
+import hudson.model.Item;
+import hudson.model.Node;
+import hudson.model.User;
+import hudson.security.AccessControlled;
+import hudson.security.Permission;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Paginated search of possible owners for ownership forms.
+ * Candidates are taken from {@link UserIndex} by prefix.
+ * Access rights of candidates are checked only for the returned page,
+ * and the results of checks are cached per item and permission.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class PossibleOwnersSearch {
+    
+    /**
+     * Default page size.
+     */
+    public static final int DEFAULT_LIMIT = 20;
+    
+    /**
+     * Maximum page size.
+     */
+    public static final int MAX_LIMIT = 100;
+    
+    /**
+     * Maximum number of candidates, which may be checked for a single page.
+     * It limits the request time if only few users have access to the item.
+     * The search can be continued from {@link Page#getNextOffset()}.
+     */
+    static final int MAX_CHECKED_CANDIDATES = 1000;
+    
+    static final long ACCESS_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    static final int ACCESS_CACHE_MAX_ITEMS = 256;
+    
+    private final ConcurrentMap<String, AccessDecisions> accessCache = new ConcurrentHashMap<>();
+    
+    @Nonnull
+    public static PossibleOwnersSearch get() {
+        return ExtensionList.lookupSingleton(PossibleOwnersSearch.class);
+    }
+    
+    /**
+     * Searches possible owners of the item.
+     * @param item Item, for which the owners are being searched
+     * @param permission Permission, which is required for owners.
+     *                   {@code null} if any user can be an owner
+     * @param query Prefix of the user ID or full name. {@code null} or empty string matches all users
+     * @param offset Position in the list of candidates, {@link Page#getNextOffset()} of the previous page
+     * @param limit Maximum number of users to be returned
+     * @return Page of users sorted by full names
+     */
+    @Nonnull
+    public Page search(@Nonnull AccessControlled item, @CheckForNull Permission permission, 
+            @CheckForNull String query, int offset, int limit) {
+        final List<User> candidates = UserIndex.get().getSnapshot().search(query);
+        final int pageSize = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        final AccessDecisions decisions = permission != null ? getAccessDecisions(item, permission) : null;
+        
+        final List<User> users = new ArrayList<>(pageSize);
+        int position = Math.max(offset, 0);
+        int checked = 0;
+        while (position < candidates.size() && users.size() < pageSize && checked < MAX_CHECKED_CANDIDATES) {
+            final User candidate = candidates.get(position++);
+            checked++;
+            if (permission == null || hasPermission(item, permission, decisions, candidate)) {
+                users.add(candidate);
+            }
+        }
+        return new Page(users, position, position < candidates.size());
+    }
+    
+    /**
+     * Checks if the user is a possible owner of the item.
+     * @param item Item
+     * @param permission Permission, which is required for owners.
+     *                   {@code null} if any existing user can be an owner
+     * @param userId ID of the user
+     * @return {@code true} if the user exists and has the required permission
+     */
+    public boolean isPossibleOwner(@Nonnull AccessControlled item, @CheckForNull Permission permission, 
+            @Nonnull String userId) {
+        final User user = User.getById(userId, false);
+        if (user == null) {
+            return false;
+        }
+        return permission == null || hasPermission(item, permission, getAccessDecisions(item, permission), user);
+    }
+    
+    private static boolean hasPermission(@Nonnull AccessControlled item, @Nonnull Permission permission, 
+            @CheckForNull AccessDecisions decisions, @Nonnull User user) {
+        if (decisions == null) {
+            return new AccessRightsFilter(item, permission).filter(user);
+        }
+        return decisions.byUser.computeIfAbsent(user.getId(), 
+                id -> new AccessRightsFilter(item, permission).filter(user));
+    }
+    
+    @CheckForNull
+    private AccessDecisions getAccessDecisions(@Nonnull AccessControlled item, @Nonnull Permission permission) {
+        final String itemKey = getItemKey(item);
+        if (itemKey == null) { // Unknown item, no caching
+            return null;
+        }
+        
+        final String key = itemKey + "#" + permission.getId();
+        final long now = System.currentTimeMillis();
+        // Permissions may depend on the ownership, e.g. in Role Strategy macros
+        final long generation = OwnershipChangeListener.getGeneration();
+        AccessDecisions decisions = accessCache.get(key);
+        if (decisions == null || !decisions.isValid(now, generation)) {
+            if (accessCache.size() >= ACCESS_CACHE_MAX_ITEMS) {
+                accessCache.clear();
+            }
+            decisions = new AccessDecisions(now, generation);
+            accessCache.put(key, decisions);
+        }
+        return decisions;
+    }
+    
+    @CheckForNull
+    private static String getItemKey(@Nonnull AccessControlled item) {
+        if (item instanceof Item) {
+            return "item:" + ((Item) item).getFullName();
+        }
+        if (item instanceof Computer) {
+            return "computer:" + ((Computer) item).getName();
+        }
+        if (item instanceof Node) {
+            return "node:" + ((Node) item).getNodeName();
+        }
+        return null;
+    }
+    
+    public void invalidateAll() {
+        accessCache.clear();
+    }
+    
+    /**
+     * Page of the search results.
+     */
+    public static final class Page {
+        
+        private final List<User> users;
+        private final int nextOffset;
+        private final boolean hasMore;
+
+        Page(@Nonnull List<User> users, int nextOffset, boolean hasMore) {
+            this.users = Collections.unmodifiableList(users);
+            this.nextOffset = nextOffset;
+            this.hasMore = hasMore;
+        }
+
+        @Nonnull
+        public List<User> getUsers() {
+            return users;
+        }
+
+        /**
+         * Gets offset of the next page.
+         * @return Offset to be passed to the next search request
+         */
+        public int getNextOffset() {
+            return nextOffset;
+        }
+
+        /**
+         * Checks if there may be more results.
+         * @return {@code true} if not all candidates have been checked
+         */
+        public boolean isHasMore() {
+            return hasMore;
+        }
+    }
+    
+    /**
+     * Cached access checks of users for a single item and permission.
+     */
+    private static final class AccessDecisions {
+        
+        private final long created;
+        private final long generation;
+        private final ConcurrentMap<String, Boolean> byUser = new ConcurrentHashMap<>();
+
+        AccessDecisions(long created, long generation) {
+            this.created = created;
+            this.generation = generation;
+        }
+        
+        boolean isValid(long now, long currentGeneration) {
+            return generation == currentGeneration && now - created < ACCESS_CACHE_TTL_MILLIS;
+        }
+    }
+}
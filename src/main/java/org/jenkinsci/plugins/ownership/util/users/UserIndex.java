@@ -0,0 +1,344 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.util.users;
+
+import com.synopsys.arc.jenkins.plugins.ownership.util.UserWrapper;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.XmlFile;
+import hudson.model.Saveable;
+import hudson.model.User;
+import hudson.model.listeners.SaveableListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Sorted snapshot of all users, which supports prefix searches.
+ * Users are sorted by their full names, the search matches prefixes of full names and IDs ignoring the case.
+ * <p>
+ * The snapshot is being created lazily and then updated incrementally when users get saved or deleted.
+ * Since users may be created without saving, the snapshot is also recreated after {@link #MAX_AGE_MILLIS}.
+ * @since TODO
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class UserIndex {
+    
+    /**
+     * Maximum age of the snapshot.
+     */
+    static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    
+    private static final Comparator<Entry> BY_NAME = 
+            Comparator.comparing((Entry e) -> e.nameKey).thenComparing(e -> e.idKey).thenComparing(e -> e.id);
+    private static final Comparator<Entry> BY_ID = 
+            Comparator.comparing((Entry e) -> e.idKey).thenComparing(e -> e.id);
+    
+    @CheckForNull
+    private volatile Snapshot snapshot;
+    
+    @Nonnull
+    public static UserIndex get() {
+        return ExtensionList.lookupSingleton(UserIndex.class);
+    }
+    
+    /**
+     * Gets the current snapshot of users.
+     * @return Snapshot
+     */
+    @Nonnull
+    public Snapshot getSnapshot() {
+        final Snapshot s = snapshot;
+        if (s == null || isExpired(s)) {
+            return rebuild();
+        }
+        return s;
+    }
+    
+    @Nonnull
+    private synchronized Snapshot rebuild() {
+        Snapshot s = snapshot;
+        if (s == null || isExpired(s)) {
+            s = new Snapshot(User.getAll());
+            snapshot = s;
+        }
+        return s;
+    }
+    
+    private static boolean isExpired(@Nonnull Snapshot s) {
+        return System.currentTimeMillis() - s.timestamp > MAX_AGE_MILLIS;
+    }
+    
+    /**
+     * Drops the snapshot, it will be recreated on the next request.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+    
+    /**
+     * Adds or updates the user in the current snapshot.
+     * @param user User
+     */
+    public synchronized void onUserChanged(@Nonnull User user) {
+        final Snapshot s = snapshot;
+        if (s != null) {
+            snapshot = s.without(user.getId()).with(user);
+        }
+    }
+    
+    /**
+     * Removes the user from the current snapshot.
+     * @param userId ID of the user
+     */
+    public synchronized void onUserDeleted(@Nonnull String userId) {
+        final Snapshot s = snapshot;
+        if (s != null) {
+            snapshot = s.without(userId);
+        }
+    }
+    
+    /**
+     * Immutable sorted list of users.
+     */
+    public static final class Snapshot {
+        
+        /**
+         * Creation time of the snapshot. 
+         * Incremental updates retain it, so that the snapshot is still being recreated periodically.
+         */
+        private final long timestamp;
+        
+        /**
+         * Entries sorted by lower-case full names.
+         */
+        private final Entry[] byName;
+        
+        /**
+         * Entries sorted by lower-case IDs.
+         */
+        private final Entry[] byId;
+        
+        @CheckForNull
+        private volatile List<UserWrapper> wrappers;
+        
+        Snapshot(@Nonnull Collection<User> allUsers) {
+            final List<Entry> entries = new ArrayList<>(allUsers.size());
+            for (User user : allUsers) {
+                if (user != null) {
+                    entries.add(new Entry(user));
+                }
+            }
+            timestamp = System.currentTimeMillis();
+            byName = entries.toArray(new Entry[0]);
+            Arrays.sort(byName, BY_NAME);
+            byId = entries.toArray(new Entry[0]);
+            Arrays.sort(byId, BY_ID);
+        }
+        
+        private Snapshot(long timestamp, @Nonnull Entry[] byName, @Nonnull Entry[] byId) {
+            this.timestamp = timestamp;
+            this.byName = byName;
+            this.byId = byId;
+        }
+        
+        public int size() {
+            return byName.length;
+        }
+        
+        /**
+         * Gets all users.
+         * @return Users sorted by full names
+         */
+        @Nonnull
+        public List<User> getUsers() {
+            final List<User> res = new ArrayList<>(byName.length);
+            for (Entry e : byName) {
+                res.add(e.user);
+            }
+            return Collections.unmodifiableList(res);
+        }
+        
+        /**
+         * Gets wrappers of all users.
+         * The list is being created once per snapshot.
+         * @return Unmodifiable list of wrappers sorted by full names
+         */
+        @Nonnull
+        public List<UserWrapper> getUserWrappers() {
+            List<UserWrapper> res = wrappers;
+            if (res == null) {
+                final List<UserWrapper> list = new ArrayList<>(byName.length);
+                for (Entry e : byName) {
+                    list.add(new UserWrapper(e.user));
+                }
+                res = Collections.unmodifiableList(list);
+                wrappers = res;
+            }
+            return res;
+        }
+        
+        /**
+         * Gets users, which full name or ID starts with the prefix.
+         * The cost is proportional to the number of matches.
+         * @param prefix Prefix. Case is ignored. Empty prefix matches all users
+         * @return Matching users sorted by full names
+         */
+        @Nonnull
+        public List<User> search(@CheckForNull String prefix) {
+            if (prefix == null || prefix.isEmpty()) {
+                return getUsers();
+            }
+            
+            final String key = prefix.toLowerCase(Locale.ENGLISH);
+            final List<Entry> matches = new ArrayList<>();
+            for (int i = lowerBound(byName, key, true); i < byName.length && byName[i].nameKey.startsWith(key); i++) {
+                matches.add(byName[i]);
+            }
+            final int namesEnd = matches.size();
+            for (int i = lowerBound(byId, key, false); i < byId.length && byId[i].idKey.startsWith(key); i++) {
+                matches.add(byId[i]);
+            }
+            if (matches.size() > namesEnd) {
+                // Merge both ranges into the name order
+                matches.sort(BY_NAME);
+            }
+            
+            final List<User> res = new ArrayList<>(matches.size());
+            Entry previous = null;
+            for (Entry e : matches) {
+                if (e != previous) {
+                    res.add(e.user);
+                    previous = e;
+                }
+            }
+            return res;
+        }
+        
+        /**
+         * Creates a copy of the snapshot with the user added.
+         * The cost is linear, no sorting is involved.
+         */
+        @Nonnull
+        Snapshot with(@Nonnull User user) {
+            final Entry entry = new Entry(user);
+            return new Snapshot(timestamp, insert(byName, entry, BY_NAME), insert(byId, entry, BY_ID));
+        }
+        
+        /**
+         * Creates a copy of the snapshot without the user.
+         * @return Copy of the snapshot. {@code this} if there is no such user
+         */
+        @Nonnull
+        Snapshot without(@Nonnull String userId) {
+            final String idKey = userId.toLowerCase(Locale.ENGLISH);
+            for (int i = lowerBound(byId, idKey, false); i < byId.length && byId[i].idKey.equals(idKey); i++) {
+                final Entry entry = byId[i];
+                if (entry.id.equals(userId)) {
+                    final int namePosition = Arrays.binarySearch(byName, entry, BY_NAME);
+                    return new Snapshot(timestamp, remove(byName, namePosition), remove(byId, i));
+                }
+            }
+            return this;
+        }
+        
+        @Nonnull
+        private static Entry[] insert(@Nonnull Entry[] entries, @Nonnull Entry entry, @Nonnull Comparator<Entry> comparator) {
+            final int found = Arrays.binarySearch(entries, entry, comparator);
+            final int position = found >= 0 ? found : -found - 1;
+            final Entry[] res = new Entry[entries.length + 1];
+            System.arraycopy(entries, 0, res, 0, position);
+            res[position] = entry;
+            System.arraycopy(entries, position, res, position + 1, entries.length - position);
+            return res;
+        }
+        
+        @Nonnull
+        private static Entry[] remove(@Nonnull Entry[] entries, int position) {
+            final Entry[] res = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, res, 0, position);
+            System.arraycopy(entries, position + 1, res, position, entries.length - position - 1);
+            return res;
+        }
+        
+        private static int lowerBound(@Nonnull Entry[] entries, @Nonnull String key, boolean byName) {
+            int low = 0;
+            int high = entries.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                String midKey = byName ? entries[mid].nameKey : entries[mid].idKey;
+                if (midKey.compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+    
+    private static final class Entry {
+        
+        private final User user;
+        private final String id;
+        private final String nameKey;
+        private final String idKey;
+
+        Entry(@Nonnull User user) {
+            this.user = user;
+            this.id = user.getId();
+            this.nameKey = user.getFullName().toLowerCase(Locale.ENGLISH);
+            this.idKey = id.toLowerCase(Locale.ENGLISH);
+        }
+    }
+    
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class SaveableListenerImpl extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().onUserChanged((User) o);
+            }
+        }
+
+        @Override
+        public void onDeleted(Saveable o, XmlFile file) {
+            if (o instanceof User) {
+                get().onUserDeleted(((User) o).getId());
+            }
+        }
+    }
+}
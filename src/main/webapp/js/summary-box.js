@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+/*
+ * Fills ownership summary boxes, which are rendered as placeholders.
+ * Owner fragments are HTML escaped by the server-side layout formatter.
+ * The browser revalidates the data by ETag, so repeated views get 304 responses.
+ */
+(function () {
+    function show(element) {
+        if (element) {
+            element.style.display = "";
+        }
+    }
+
+    function setLink(box, selector, url) {
+        var cell = box.querySelector(selector);
+        if (cell && url) {
+            cell.querySelector("a").setAttribute("href", url);
+            show(cell);
+        }
+    }
+
+    function render(box, data) {
+        if (!data.displayed) {
+            box.parentNode.removeChild(box);
+            return;
+        }
+        if (data.ownershipEnabled) {
+            box.querySelector(".ownership-async-primary").innerHTML = data.primaryOwner;
+            var secondary = box.querySelector(".ownership-async-secondary");
+            data.secondaryOwners.forEach(function (owner) {
+                var div = document.createElement("div");
+                div.className = "ownership-user-info";
+                div.innerHTML = owner;
+                secondary.appendChild(div);
+            });
+            if (data.secondaryOwners.length > 0) {
+                show(box.querySelector(".ownership-async-secondary-row"));
+            }
+            setLink(box, ".ownership-async-contact-owners", data.contactOwnersLink);
+            setLink(box, ".ownership-async-contact-admins", data.contactAdminsLink);
+            show(box.querySelector(".ownership-async-enabled"));
+        } else {
+            show(box.querySelector(".ownership-async-disabled"));
+        }
+        show(box);
+    }
+
+    function load(box) {
+        if (box.getAttribute("data-summary-loaded")) {
+            return;
+        }
+        box.setAttribute("data-summary-loaded", "true");
+        fetch(box.getAttribute("data-summary-url"), {
+            credentials: "same-origin",
+            headers: { "Accept": "application/json" }
+        }).then(function (rsp) {
+            if (!rsp.ok) {
+                throw new Error("Failed to load the ownership summary: " + rsp.status);
+            }
+            return rsp.json();
+        }).then(function (data) {
+            render(box, data);
+        }).catch(function (error) {
+            console.warn(error);
+        });
+    }
+
+    function loadAll() {
+        document.querySelectorAll(".ownership-async-box").forEach(load);
+    }
+
+    if (document.readyState === "loading") {
+        document.addEventListener("DOMContentLoaded", loadAll);
+    } else {
+        loadAll();
+    }
+})();
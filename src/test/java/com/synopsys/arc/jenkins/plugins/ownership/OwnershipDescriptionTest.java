@@ -1,12 +1,17 @@
 package com.synopsys.arc.jenkins.plugins.ownership;
 
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import hudson.model.FreeStyleProject;
 import hudson.model.User;
 import hudson.security.HudsonPrivateSecurityRealm;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import jenkins.model.IdStrategy;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import org.junit.Before;
 import org.junit.Rule;
@@ -76,5 +81,132 @@ public class OwnershipDescriptionTest {
         assertThat("OwnershipDescription doesn't respect case sensitive strategy", description.isOwner(user, true), equalTo(true));
     }
 
+    @Test
+    public void isOwnerShouldFollowIdStrategyChanges() throws Exception {
+        OwnershipDescription description = new OwnershipDescription(true, "OWNER", Arrays.asList("OWNER"));
+        User user = User.get("owner");
+        assertThat(description.isOwner(user, false), equalTo(false));
+        assertThat(description.isOwner(user, true), equalTo(false));
+        
+        applyIdStrategy(IdStrategy.CASE_INSENSITIVE);
+        assertThat("Primary owner check should use the new ID strategy", description.isPrimaryOwner(user), equalTo(true));
+        assertThat("Secondary owner lookup should be rebuilt for the new ID strategy", 
+                new OwnershipDescription(true, "another.owner", Arrays.asList("OWNER")).isOwner(user, true), equalTo(true));
+        
+        applyIdStrategy(CASE_SENSITIVE);
+        assertThat(description.isOwner(user, true), equalTo(false));
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void isPrimaryOwnerShouldRespectCaseInsensitiveIdStrategy() throws Exception {
+        applyIdStrategy(IdStrategy.CASE_INSENSITIVE);
+        User user = User.get("owner");
+        
+        assertThat(new OwnershipDescription(true, "OWNER", null).isPrimaryOwner(user), equalTo(true));
+        assertThat(new OwnershipDescription(true, "Owner", Arrays.asList("another.owner")).isPrimaryOwner(user), equalTo(true));
+        assertThat("Disabled ownership has no primary owner", 
+                new OwnershipDescription(false, "OWNER", null).isPrimaryOwner(user), equalTo(false));
+        assertThat("Secondary owners are not primary ones", 
+                new OwnershipDescription(true, "another.owner", Arrays.asList("OWNER")).isPrimaryOwner(user), equalTo(false));
+        assertThat(new OwnershipDescription(true, "OWNER", null).isPrimaryOwner(null), equalTo(false));
+    }
+    
+    @Test
+    public void secondaryOwnersLookupShouldRespectIdStrategy() throws Exception {
+        User user = User.get("owner");
+        User stranger = User.get("stranger");
+        OwnershipDescription shared = OwnershipDescription.intern(
+                new OwnershipDescription(true, "another.owner", Arrays.asList("Third.Owner", "OWNER")));
+        
+        // Repeated calls use the cached lookup of the shared instance
+        for (int i = 0; i < 2; i++) {
+            assertThat(shared.isOwner(user, true), equalTo(false));
+            assertThat(shared.isOwner(stranger, true), equalTo(false));
+        }
+        
+        applyIdStrategy(IdStrategy.CASE_INSENSITIVE);
+        for (int i = 0; i < 2; i++) {
+            assertThat("Cached lookup should be rebuilt for the new ID strategy", shared.isOwner(user, true), equalTo(true));
+            assertThat(shared.isOwner(user, false), equalTo(false));
+            assertThat(shared.isOwner(stranger, true), equalTo(false));
+        }
+    }
+    
+    @Test
+    public void secondaryOwnersLookupShouldFollowChangesOfNonSharedInstances() throws Exception {
+        applyIdStrategy(IdStrategy.CASE_INSENSITIVE);
+        User user = User.get("owner");
+        OwnershipDescription descr = new OwnershipDescription(true, "another.owner", Arrays.asList("Third.Owner"));
+        assertThat(descr.isOwner(user, true), equalTo(false));
+        
+        descr.getSecondaryOwnerIds().add("OWNER");
+        assertThat("Modified secondary owners should be used", descr.isOwner(user, true), equalTo(true));
+    }
+
+    @Test
+    public void internShouldReturnSharedInstances() throws Exception {
+        OwnershipDescription first = OwnershipDescription.intern(new OwnershipDescription(true, "owner", Arrays.asList("a", "b")));
+        OwnershipDescription second = OwnershipDescription.intern(new OwnershipDescription(true, "owner", Arrays.asList("b", "a")));
+        assertThat(second, sameInstance(first));
+        
+        OwnershipDescription other = OwnershipDescription.intern(new OwnershipDescription(true, "owner", Arrays.asList("a")));
+        assertThat(other, not(sameInstance(first)));
+        
+        OwnershipDescription disabled = OwnershipDescription.intern(new OwnershipDescription(false, "owner", Arrays.asList("a")));
+        assertThat("Owners of disabled descriptions should be retained", disabled.primaryOwnerId, equalTo("owner"));
+        assertThat(disabled.getSecondaryOwnerIds(), contains("a"));
+        assertThat(OwnershipDescription.intern(new OwnershipDescription(false, "owner", Arrays.asList("a"))), sameInstance(disabled));
+        assertThat(OwnershipDescription.intern(new OwnershipDescription(false, "other", null)), not(sameInstance(disabled)));
+        
+        OwnershipDescription empty = OwnershipDescription.intern(new OwnershipDescription(false, null, null));
+        assertThat(empty, sameInstance(OwnershipDescription.DISABLED_DESCR));
+    }
+    
+    @Test
+    public void disabledDescriptionsShouldKeepOwnersOnReload() throws Exception {
+        FreeStyleProject job = j.createFreeStyleProject();
+        JobOwnerHelper.setOwnership(job, new OwnershipDescription(false, "owner", Arrays.asList("secondary")));
+        
+        j.jenkins.reload();
+        
+        OwnershipDescription descr = JobOwnerHelper.getOwnerProperty(j.jenkins.getItemByFullName(job.getFullName(), FreeStyleProject.class)).getOwnership();
+        assertThat(descr.isOwnershipEnabled(), equalTo(false));
+        assertThat(descr.primaryOwnerId, equalTo("owner"));
+        assertThat(descr.getSecondaryOwnerIds(), contains("secondary"));
+    }
+    
+    @Test
+    public void deserializedDescriptionsShouldBeShared() throws Exception {
+        OwnershipDescription descr = new OwnershipDescription(true, "owner", Arrays.asList("secondary"));
+        FreeStyleProject job1 = j.createFreeStyleProject();
+        FreeStyleProject job2 = j.createFreeStyleProject();
+        JobOwnerHelper.setOwnership(job1, descr);
+        JobOwnerHelper.setOwnership(job2, descr);
+        
+        j.jenkins.reload();
+        
+        OwnershipDescription descr1 = JobOwnerHelper.getOwnerProperty(j.jenkins.getItemByFullName(job1.getFullName(), FreeStyleProject.class)).getOwnership();
+        OwnershipDescription descr2 = JobOwnerHelper.getOwnerProperty(j.jenkins.getItemByFullName(job2.getFullName(), FreeStyleProject.class)).getOwnership();
+        assertThat(descr1, equalTo(descr));
+        assertThat(descr2, sameInstance(descr1));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedSecondaryOwnersShouldBeReadOnly() {
+        OwnershipDescription descr = OwnershipDescription.intern(new OwnershipDescription(true, "owner", Arrays.asList("secondary")));
+        descr.getSecondaryOwnerIds().add("intruder");
+    }
+    
+    @Test
+    @SuppressWarnings("deprecation")
+    public void internShouldNotModifyTheArgument() {
+        OwnershipDescription descr = new OwnershipDescription(true, "owner", Arrays.asList("secondary"));
+        OwnershipDescription shared = OwnershipDescription.intern(descr);
+        assertThat(shared, not(sameInstance(descr)));
+        
+        descr.getSecondaryOwnerIds().add("another");
+        descr.assign(new OwnershipDescription(true, "newOwner", null));
+        assertThat("Shared instance should not be affected", shared.getPrimaryOwnerId(), equalTo("owner"));
+        assertThat(shared.getSecondaryOwnerIds(), contains("secondary"));
+    }
+}
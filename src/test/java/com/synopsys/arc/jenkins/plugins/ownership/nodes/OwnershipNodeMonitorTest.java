@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.nodes;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import hudson.model.Computer;
+import hudson.slaves.DumbSlave;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link OwnershipNodeMonitor}.
+ */
+public class OwnershipNodeMonitorTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldReflectOwnershipChangesImmediately() throws Exception {
+        DumbSlave node = j.createSlave();
+        Computer computer = node.toComputer();
+        OwnershipNodeMonitor monitor = new OwnershipNodeMonitor();
+        assertThat(monitor.data(computer).getOwnershipDescription(), equalTo(OwnershipDescription.DISABLED_DESCR));
+        
+        NodeOwnerHelper.setOwnership(node, new OwnershipDescription(true, "owner", null));
+        assertThat(monitor.data(computer).getOwnershipDescription().getPrimaryOwnerId(), equalTo("owner"));
+        
+        NodeOwnerHelper.setOwnership(node, new OwnershipDescription(true, "newOwner", null));
+        assertThat("Monitor should not wait for the next monitoring round",
+                monitor.data(computer).getOwnershipDescription().getPrimaryOwnerId(), equalTo("newOwner"));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.security.authorizeproject;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import hudson.model.FreeStyleProject;
+import hudson.model.User;
+import java.util.Collections;
+import jenkins.model.Jenkins;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.springframework.security.core.Authentication;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link OwnerAuthenticationCache}.
+ */
+public class OwnerAuthenticationCacheTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    private long defaultTtlSeconds;
+    
+    @Before
+    public void setUp() {
+        defaultTtlSeconds = OwnerAuthenticationCache.TTL_SECONDS;
+        j.jenkins.setSecurityRealm(j.createDummySecurityRealm());
+        User.getById("owner", true);
+    }
+    
+    @After
+    public void tearDown() {
+        OwnerAuthenticationCache.TTL_SECONDS = defaultTtlSeconds;
+    }
+    
+    @Test
+    public void shouldCacheAuthentications() {
+        OwnerAuthenticationCache cache = OwnerAuthenticationCache.get();
+        Authentication auth = cache.authenticate("owner");
+        
+        assertThat(auth.getName(), equalTo("owner"));
+        assertThat("The cached authentication should be reused", cache.authenticate("owner"), sameInstance(auth));
+    }
+    
+    @Test
+    public void shouldExpireAuthentications() throws Exception {
+        OwnerAuthenticationCache.TTL_SECONDS = 1;
+        OwnerAuthenticationCache cache = OwnerAuthenticationCache.get();
+        Authentication auth = cache.authenticate("owner");
+        assertThat(cache.authenticate("owner"), sameInstance(auth));
+        
+        Thread.sleep(1100);
+        Authentication renewed = cache.authenticate("owner");
+        assertThat("The expired authentication should be renewed", renewed, not(sameInstance(auth)));
+        assertThat(renewed.getName(), equalTo("owner"));
+    }
+    
+    @Test
+    public void shouldNotCacheIfDisabled() {
+        OwnerAuthenticationCache.TTL_SECONDS = 0;
+        OwnerAuthenticationCache cache = OwnerAuthenticationCache.get();
+        
+        assertThat(cache.authenticate("owner"), not(sameInstance(cache.authenticate("owner"))));
+    }
+    
+    @Test
+    public void shouldCacheUnknownUsersUntilOwnershipChanges() throws Exception {
+        OwnerAuthenticationCache cache = OwnerAuthenticationCache.get();
+        assertThat(cache.authenticate("newowner"), sameInstance(Jenkins.ANONYMOUS2));
+        
+        User.getById("newowner", true);
+        assertThat("Unknown users should be cached", cache.authenticate("newowner"), sameInstance(Jenkins.ANONYMOUS2));
+        
+        FreeStyleProject project = j.createFreeStyleProject();
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "newowner", Collections.emptyList()));
+        assertThat("Unknown users should be resolved after the ownership change", 
+                cache.authenticate("newowner").getName(), equalTo("newowner"));
+    }
+    
+    @Test
+    public void shouldInvalidateOnUserSave() throws Exception {
+        OwnerAuthenticationCache cache = OwnerAuthenticationCache.get();
+        Authentication auth = cache.authenticate("owner");
+        
+        User.getById("owner", false).save();
+        assertThat("The authentication should be renewed after the user change", 
+                cache.authenticate("owner"), not(sameInstance(auth)));
+    }
+    
+    @Test
+    public void shouldInvalidateOnUserDeletion() throws Exception {
+        OwnerAuthenticationCache cache = OwnerAuthenticationCache.get();
+        assertThat(cache.authenticate("owner").getName(), equalTo("owner"));
+        
+        User.getById("owner", false).delete();
+        assertThat("Deleted users should not be impersonated", 
+                cache.authenticate("owner"), sameInstance(Jenkins.ANONYMOUS2));
+    }
+}
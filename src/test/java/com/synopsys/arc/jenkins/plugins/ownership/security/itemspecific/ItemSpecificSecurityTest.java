@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.security.itemspecific;
+
+import hudson.model.Item;
+import hudson.security.AuthorizationMatrixProperty;
+import hudson.security.Permission;
+import java.util.Set;
+import java.util.TreeMap;
+import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.matrixauth.PermissionEntry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link ItemSpecificSecurity}.
+ */
+public class ItemSpecificSecurityTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldCheckUserAndGroupSids() {
+        AuthorizationMatrixProperty matrix = new AuthorizationMatrixProperty(new TreeMap<Permission, Set<String>>());
+        matrix.add(Item.CONFIGURE, PermissionEntry.user("alice"));
+        matrix.add(Item.BUILD, PermissionEntry.group("developers"));
+        ItemSpecificSecurity security = new ItemSpecificSecurity(matrix);
+        
+        assertPermission(security, "alice", Item.CONFIGURE, true);
+        assertPermission(security, "alice", Item.BUILD, false);
+        assertPermission(security, "developers", Item.BUILD, true);
+        assertPermission(security, "developers", Item.CONFIGURE, false);
+        assertPermission(security, "bob", Item.READ, false);
+    }
+    
+    @Test
+    public void shouldExpandImpliedPermissions() {
+        AuthorizationMatrixProperty matrix = new AuthorizationMatrixProperty(new TreeMap<Permission, Set<String>>());
+        matrix.add(Jenkins.ADMINISTER, PermissionEntry.user("admin"));
+        matrix.add(Item.BUILD, PermissionEntry.user("alice"));
+        ItemSpecificSecurity security = new ItemSpecificSecurity(matrix);
+        
+        assertPermission(security, "admin", Item.CONFIGURE, true);
+        assertPermission(security, "admin", Item.DELETE, true);
+        assertPermission(security, "alice", Item.BUILD, true);
+        assertPermission(security, "alice", Jenkins.ADMINISTER, false);
+    }
+    
+    @Test
+    public void shouldFollowEnabledStatesOfPermissions() {
+        final boolean wasEnabled = Item.EXTENDED_READ.getEnabled();
+        final long interval = CompiledPermissionMatrix.ENABLED_STATE_CHECK_INTERVAL_MILLIS;
+        CompiledPermissionMatrix.ENABLED_STATE_CHECK_INTERVAL_MILLIS = 0;
+        try {
+            AuthorizationMatrixProperty matrix = new AuthorizationMatrixProperty(new TreeMap<Permission, Set<String>>());
+            matrix.add(Item.EXTENDED_READ, PermissionEntry.user("reader"));
+            matrix.add(Item.CONFIGURE, PermissionEntry.user("configurer"));
+            ItemSpecificSecurity security = new ItemSpecificSecurity(matrix);
+            
+            Item.EXTENDED_READ.setEnabled(false);
+            assertPermission(security, "reader", Item.EXTENDED_READ, false);
+            assertPermission(security, "configurer", Item.EXTENDED_READ, true);
+            
+            Item.EXTENDED_READ.setEnabled(true);
+            assertPermission(security, "reader", Item.EXTENDED_READ, true);
+            assertPermission(security, "configurer", Item.EXTENDED_READ, true);
+            
+            Item.EXTENDED_READ.setEnabled(false);
+            assertPermission(security, "reader", Item.EXTENDED_READ, false);
+        } finally {
+            Item.EXTENDED_READ.setEnabled(wasEnabled);
+            CompiledPermissionMatrix.ENABLED_STATE_CHECK_INTERVAL_MILLIS = interval;
+        }
+    }
+    
+    private static void assertPermission(ItemSpecificSecurity security, String sid, Permission p, boolean expected) {
+        assertThat("Wrong check of " + p.getId() + " for " + sid, security.hasPermission(sid, p), equalTo(expected));
+        assertThat("Compiled matrix should be equivalent to the source matrix", 
+                security.hasPermission(sid, p), equalTo(security.getPermissionsMatrix().hasPermission(sid, p)));
+    }
+}
@@ -24,10 +24,13 @@
 package com.synopsys.arc.jenkins.plugins.ownership.security.rolestrategy;
 
 import com.michelin.cio.hudson.plugins.rolestrategy.PermissionEntry;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
 import com.synopsys.arc.jenkins.plugins.rolestrategy.Macro;
 import com.synopsys.arc.jenkins.plugins.rolestrategy.RoleType;
 import hudson.model.FreeStyleProject;
 import hudson.model.Item;
+import hudson.model.User;
 import hudson.security.Permission;
 import org.junit.Rule;
 import org.junit.Test;
@@ -185,6 +188,48 @@ public class AbstractOwnershipRoleMacroTest {
         assertThat("Method should return a boolean value", result, equalTo(result));
     }
     
+    /**
+     * Test that repeated checks are served from the decision cache and ownership changes invalidate it.
+     */
+    @Test
+    public void testDecisionsShouldBeCachedUntilOwnershipChange() throws Exception {
+        OwnerRoleMacro macro = new OwnerRoleMacro();
+        FreeStyleProject project = j.createFreeStyleProject("test");
+        User user = User.getById("owner", true);
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "owner", null));
+        RoleMacroDecisionCache cache = RoleMacroDecisionCache.get();
+        
+        assertThat(macro.hasPermission("owner", Item.READ, RoleType.Project, project, null), equalTo(true));
+        long hits = cache.getHitCount();
+        assertThat(macro.hasPermission("owner", Item.CONFIGURE, RoleType.Project, project, null), equalTo(true));
+        assertThat("The second check should be served from the cache", cache.getHitCount(), equalTo(hits + 1));
+        
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "anotherOwner", null));
+        assertThat("The ownership change should invalidate the decision",
+                macro.hasPermission(user.getId(), Item.READ, RoleType.Project, project, null), equalTo(false));
+    }
+    
+    /**
+     * Test that changes of other items and nodes do not drop cached decisions.
+     */
+    @Test
+    public void testUnrelatedChangesShouldNotInvalidateDecisions() throws Exception {
+        OwnerRoleMacro macro = new OwnerRoleMacro();
+        FreeStyleProject project = j.createFreeStyleProject("test");
+        FreeStyleProject another = j.createFreeStyleProject("another");
+        User.getById("owner", true);
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "owner", null));
+        RoleMacroDecisionCache cache = RoleMacroDecisionCache.get();
+        assertThat(macro.hasPermission("owner", Item.READ, RoleType.Project, project, null), equalTo(true));
+        
+        JobOwnerHelper.setOwnership(another, new OwnershipDescription(true, "anotherOwner", null));
+        j.createSlave();
+        j.jenkins.save();
+        long hits = cache.getHitCount();
+        assertThat(macro.hasPermission("owner", Item.READ, RoleType.Project, project, null), equalTo(true));
+        assertThat("The decision should be still cached", cache.getHitCount(), equalTo(hits + 1));
+    }
+    
     /**
      * Creates a test PermissionEntry using reflection to handle the required constructor parameters.
      * Uses the same approach as OwnershipBasedSecurityTestHelper for consistency.
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.util.ui;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import hudson.model.FreeStyleProject;
+import java.net.URL;
+import java.util.Arrays;
+import net.sf.json.JSONObject;
+import org.htmlunit.HttpMethod;
+import org.htmlunit.Page;
+import org.htmlunit.WebRequest;
+import org.jenkinsci.plugins.ownership.config.DisplayOptions;
+import org.jenkinsci.plugins.ownership.test.util.OwnershipPluginConfigurer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link AsyncSummaryBox}.
+ */
+public class AsyncSummaryBoxTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldServeSummaryAndRevalidateByETag() throws Exception {
+        OwnershipPluginConfigurer.forJenkinsRule(j)
+                .withDisplayOptions(new DisplayOptions(false, false, true))
+                .configure();
+        FreeStyleProject project = j.createFreeStyleProject("project");
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "owner", Arrays.asList("coowner")));
+        
+        String dataUrl = AsyncSummaryBox.getDataUrl(project);
+        assertThat(dataUrl, equalTo("plugin/ownership/summary?target=item%3Aproject"));
+        
+        JenkinsRule.WebClient wc = j.createWebClient();
+        Page page = wc.goTo(dataUrl, "application/json");
+        JSONObject data = JSONObject.fromObject(page.getWebResponse().getContentAsString());
+        assertThat(data.getBoolean("displayed"), is(true));
+        assertThat(data.getBoolean("ownershipEnabled"), is(true));
+        assertThat(data.getString("primaryOwner"), containsString("owner"));
+        assertThat(data.getJSONArray("secondaryOwners").size(), equalTo(1));
+        
+        String etag = page.getWebResponse().getResponseHeaderValue("ETag");
+        assertThat(etag, notNullValue());
+        WebRequest revalidation = new WebRequest(new URL(j.getURL(), dataUrl), HttpMethod.GET);
+        revalidation.setAdditionalHeader("If-None-Match", etag);
+        assertThat("Unchanged ownership should not be sent again", 
+                wc.getPage(revalidation).getWebResponse().getStatusCode(), equalTo(304));
+        
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "newOwner", null));
+        wc.setThrowExceptionOnFailingStatusCode(false);
+        Page changed = wc.getPage(revalidation);
+        assertThat("Ownership change should invalidate the entity tag", 
+                changed.getWebResponse().getStatusCode(), equalTo(200));
+        assertThat(changed.getWebResponse().getContentAsString(), containsString("newOwner"));
+        
+        project.delete();
+        assertThat("Deleted items should not be revalidated", 
+                wc.getPage(revalidation).getWebResponse().getStatusCode(), equalTo(404));
+    }
+    
+    @Test
+    public void shouldNotResolveMissingItems() throws Exception {
+        JenkinsRule.WebClient wc = j.createWebClient();
+        wc.setThrowExceptionOnFailingStatusCode(false);
+        Page page = wc.getPage(new URL(j.getURL(), "plugin/ownership/summary?target=item%3Amissing"));
+        assertThat(page.getWebResponse().getStatusCode(), equalTo(404));
+    }
+}
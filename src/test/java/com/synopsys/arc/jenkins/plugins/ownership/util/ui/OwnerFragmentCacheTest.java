@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkins.plugins.ownership.util.ui;
+
+import hudson.model.User;
+import hudson.tasks.Mailer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.jenkinsci.plugins.ownership.util.mail.EmailAddressCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link OwnerFragmentCache}.
+ */
+public class OwnerFragmentCacheTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldValidateAddressesOfCachedFragments() throws Exception {
+        User.getById("owner", true).addProperty(new Mailer.UserProperty("owner@example.com"));
+        OwnerFragmentCache cache = OwnerFragmentCache.get();
+        AtomicInteger renderings = new AtomicInteger();
+        Function<String, String> renderer = address -> {
+            renderings.incrementAndGet();
+            return "owner " + address;
+        };
+        
+        assertThat(cache.get("owner", true, false, renderer), equalTo("owner owner@example.com"));
+        assertThat(cache.get("owner", true, false, renderer), equalTo("owner owner@example.com"));
+        assertThat("Fragment should be cached", renderings.get(), equalTo(1));
+        
+        // The address is not cached anymore, e.g. it has been evicted
+        EmailAddressCache.get().invalidateAll();
+        assertThat(cache.get("owner", true, false, renderer), equalTo("owner owner@example.com"));
+        assertThat("Fragment should be rendered again", renderings.get(), equalTo(2));
+        
+        assertThat(cache.get("owner", true, true, renderer), equalTo("owner null"));
+        assertThat(cache.get("owner", true, true, renderer), equalTo("owner null"));
+        assertThat("Fragments without addresses do not depend on the e-mail cache", renderings.get(), equalTo(3));
+    }
+}
@@ -50,7 +50,9 @@ import java.util.concurrent.Future;
 import org.jenkinsci.plugins.ownership.model.folders.FolderOwnershipHelper;
 import org.jenkinsci.plugins.ownership.test.util.OwnershipPluginConfigurer;
 import org.jenkinsci.plugins.ownership.util.environment.EnvSetupOptions;
+import org.jenkinsci.plugins.ownership.util.environment.OwnershipVariablesCache;
 import org.jenkinsci.plugins.ownership.util.mail.MailOptions;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import org.junit.Rule;
@@ -158,6 +160,24 @@ public class OwnershipBuildWrapperTest {
         r.assertLogContains("JOB_COOWNERS="+PROJECT_OWNER_ID, build);
     }
     
+    @Test
+    public void shouldReuseVariablesUntilOwnershipChange() throws Exception {
+        initJenkinsInstance();
+        project.getBuildWrappersList().add(new OwnershipBuildWrapper(true, true));
+        
+        FreeStyleBuild build = testVarsPresense(false);
+        OwnershipVariablesCache cache = OwnershipVariablesCache.get();
+        long misses = cache.getMissCount();
+        build.getEnvironment(TaskListener.NULL);
+        assertEquals("Variables should be served from the cache", misses, cache.getMissCount());
+        
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, PROJECT_OWNER_ID, 
+                Collections.singletonList(NODE_OWNER_ID)));
+        EnvVars env = build.getEnvironment(TaskListener.NULL);
+        assertEquals("Variables should be recomputed after the ownership change", 
+                PROJECT_OWNER_ID + "," + NODE_OWNER_ID, env.get("JOB_COOWNERS"));
+    }
+    
     private FreeStyleBuild testVarsPresense(boolean failSCM) throws Exception {              
         project.setAssignedNode(node);
         if (failSCM) {
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model;
+
+import com.cloudbees.hudson.plugins.folder.Folder;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.NodeOwnerHelper;
+import hudson.model.FreeStyleProject;
+import hudson.slaves.DumbSlave;
+import java.util.Arrays;
+import org.jenkinsci.plugins.ownership.model.folders.FolderOwnershipHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link OwnershipIndex}.
+ */
+public class OwnershipIndexTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldIndexInheritedOwnership() throws Exception {
+        Folder folder = j.jenkins.createProject(Folder.class, "folder");
+        folder.createProject(FreeStyleProject.class, "job");
+        FreeStyleProject otherJob = j.createFreeStyleProject("otherJob");
+        FolderOwnershipHelper.setOwnership(folder, new OwnershipDescription(true, "owner", Arrays.asList("secondary")));
+        JobOwnerHelper.setOwnership(otherJob, new OwnershipDescription(true, "secondary", null));
+        
+        OwnershipIndex index = OwnershipIndex.get();
+        assertThat(index.getItems("owner", false), contains("folder", "folder/job"));
+        assertThat(index.getItems("secondary", false), contains("otherJob"));
+        assertThat(index.getItems("secondary", true), contains("folder", "folder/job", "otherJob"));
+        assertThat(index.getItems("nobody", true), empty());
+    }
+    
+    @Test
+    public void shouldFollowOwnershipChanges() throws Exception {
+        Folder folder = j.jenkins.createProject(Folder.class, "folder");
+        FreeStyleProject job = folder.createProject(FreeStyleProject.class, "job");
+        FolderOwnershipHelper.setOwnership(folder, new OwnershipDescription(true, "owner1", null));
+        
+        OwnershipIndex index = OwnershipIndex.get();
+        assertThat(index.getItems("owner1", false), contains("folder", "folder/job"));
+        
+        JobOwnerHelper.setOwnership(job, new OwnershipDescription(true, "owner2", null));
+        assertThat(index.getItems("owner1", false), contains("folder"));
+        assertThat(index.getItems("owner2", false), contains("folder/job"));
+        
+        FolderOwnershipHelper.setOwnership(folder, new OwnershipDescription(true, "owner2", null));
+        assertThat(index.getItems("owner1", false), empty());
+        assertThat(index.getItems("owner2", false), contains("folder", "folder/job"));
+        
+        job.renameTo("renamed");
+        assertThat(index.getItems("owner2", false), contains("folder", "folder/renamed"));
+        
+        folder.delete();
+        assertThat(index.getItems("owner2", false), empty());
+    }
+    
+    @Test
+    public void shouldIndexNodes() throws Exception {
+        DumbSlave agent = j.createSlave();
+        NodeOwnerHelper.setOwnership(agent, new OwnershipDescription(true, "owner", Arrays.asList("secondary")));
+        
+        OwnershipIndex index = OwnershipIndex.get();
+        assertThat(index.getNodes("owner", false), contains(agent.getNodeName()));
+        assertThat(index.getNodes("secondary", false), empty());
+        assertThat(index.getNodes("secondary", true), contains(agent.getNodeName()));
+        
+        j.jenkins.removeNode(agent);
+        assertThat(index.getNodes("owner", true), empty());
+    }
+}
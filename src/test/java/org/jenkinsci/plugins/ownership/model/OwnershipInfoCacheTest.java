@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model;
+
+import com.cloudbees.hudson.plugins.folder.Folder;
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import hudson.model.FreeStyleProject;
+import hudson.model.Items;
+import java.util.Arrays;
+import org.jenkinsci.plugins.ownership.model.folders.FolderOwnershipHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link OwnershipInfoCache}.
+ */
+public class OwnershipInfoCacheTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void inheritedOwnershipShouldBeServedFromCache() throws Exception {
+        Folder folder = j.jenkins.createProject(Folder.class, "folder");
+        FreeStyleProject job = folder.createProject(FreeStyleProject.class, "job");
+        OwnershipDescription folderOwnership = new OwnershipDescription(true, "folderOwner", null);
+        FolderOwnershipHelper.setOwnership(folder, folderOwnership);
+        
+        OwnershipInfoCache cache = OwnershipInfoCache.get();
+        assertThat(JobOwnerHelper.Instance.getOwnershipDescription(job), equalTo(folderOwnership));
+        long misses = cache.getMissCount();
+        long hits = cache.getHitCount();
+        
+        assertThat(JobOwnerHelper.Instance.getOwnershipDescription(job), equalTo(folderOwnership));
+        assertThat("The second lookup should not resolve the ownership again", 
+                cache.getMissCount(), equalTo(misses));
+        assertThat(cache.getHitCount(), equalTo(hits + 1));
+    }
+    
+    @Test
+    public void folderChangeShouldInvalidateItsSubtreeOnly() throws Exception {
+        Folder folder = j.jenkins.createProject(Folder.class, "folder");
+        FreeStyleProject job = folder.createProject(FreeStyleProject.class, "job");
+        FreeStyleProject otherJob = j.createFreeStyleProject("otherJob");
+        JobOwnerHelper.setOwnership(otherJob, new OwnershipDescription(true, "otherOwner", null));
+        FolderOwnershipHelper.setOwnership(folder, new OwnershipDescription(true, "oldOwner", null));
+        
+        assertThat(JobOwnerHelper.Instance.getOwnershipDescription(job).getPrimaryOwnerId(), equalTo("oldOwner"));
+        assertThat(JobOwnerHelper.Instance.getOwnershipDescription(otherJob).getPrimaryOwnerId(), equalTo("otherOwner"));
+        
+        OwnershipDescription newOwnership = new OwnershipDescription(true, "newOwner", Arrays.asList("secondary"));
+        FolderOwnershipHelper.setOwnership(folder, newOwnership);
+        
+        OwnershipInfoCache cache = OwnershipInfoCache.get();
+        long misses = cache.getMissCount();
+        assertThat("Job should inherit the new folder ownership", 
+                JobOwnerHelper.Instance.getOwnershipDescription(job), equalTo(newOwnership));
+        assertThat("Job in the folder should have been invalidated", 
+                cache.getMissCount(), greaterThan(misses));
+        
+        misses = cache.getMissCount();
+        assertThat(JobOwnerHelper.Instance.getOwnershipDescription(otherJob).getPrimaryOwnerId(), equalTo("otherOwner"));
+        assertThat("Job outside the folder should not have been invalidated", 
+                cache.getMissCount(), equalTo(misses));
+    }
+    
+    @Test
+    public void moveShouldInvalidateInheritedOwnership() throws Exception {
+        Folder folder = j.jenkins.createProject(Folder.class, "folder");
+        Folder anotherFolder = j.jenkins.createProject(Folder.class, "anotherFolder");
+        FreeStyleProject job = folder.createProject(FreeStyleProject.class, "job");
+        FolderOwnershipHelper.setOwnership(folder, new OwnershipDescription(true, "owner1", null));
+        FolderOwnershipHelper.setOwnership(anotherFolder, new OwnershipDescription(true, "owner2", null));
+        assertThat(JobOwnerHelper.Instance.getOwnershipDescription(job).getPrimaryOwnerId(), equalTo("owner1"));
+        
+        FreeStyleProject moved = Items.move(job, anotherFolder);
+        assertThat("Moved job should inherit ownership from the new parent",
+                JobOwnerHelper.Instance.getOwnershipDescription(moved).getPrimaryOwnerId(), equalTo("owner2"));
+        
+        anotherFolder.delete();
+        FreeStyleProject recreated = folder.createProject(FreeStyleProject.class, "job");
+        assertThat(JobOwnerHelper.Instance.getOwnershipDescription(recreated).getPrimaryOwnerId(), equalTo("owner1"));
+    }
+}
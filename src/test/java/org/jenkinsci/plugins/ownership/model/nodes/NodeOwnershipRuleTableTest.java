@@ -0,0 +1,98 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.nodes;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.NodeOwnerHelper;
+import hudson.slaves.DumbSlave;
+import java.util.Arrays;
+import org.jenkinsci.plugins.ownership.config.NodeOwnershipRule;
+import org.jenkinsci.plugins.ownership.model.OwnershipInfo;
+import org.jenkinsci.plugins.ownership.test.util.OwnershipPluginConfigurer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link NodeOwnershipRuleTable}.
+ */
+public class NodeOwnershipRuleTableTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldAssignOwnershipByRules() throws Exception {
+        OwnershipPluginConfigurer.forJenkinsRule(j)
+                .withNodeOwnershipRules(
+                        new NodeOwnershipRule("linux && docker", null, null, "dockerOwner", "coowner1, coowner2"),
+                        new NodeOwnershipRule(null, null, "build-.*", "buildOwner", null))
+                .configure();
+        
+        DumbSlave dockerAgent = j.createSlave("agent", "linux docker", null);
+        DumbSlave buildAgent = j.createSlave("build-1", "windows", null);
+        DumbSlave otherAgent = j.createSlave("other", "windows", null);
+        
+        OwnershipDescription dockerOwnership = NodeOwnerHelper.Instance.getOwnershipDescription(dockerAgent);
+        assertThat(dockerOwnership.getPrimaryOwnerId(), equalTo("dockerOwner"));
+        assertThat(dockerOwnership.getSecondaryOwnerIds(), containsInAnyOrder("coowner1", "coowner2"));
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(buildAgent).getPrimaryOwnerId(), equalTo("buildOwner"));
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(otherAgent), equalTo(OwnershipDescription.DISABLED_DESCR));
+        
+        OwnershipInfo info = NodeOwnerHelper.Instance.getOwnershipInfo(buildAgent);
+        assertThat(info.getSource(), instanceOf(NodeOwnershipRuleSource.class));
+        assertThat("Rules should not create node properties", 
+                NodeOwnerHelper.getOwnerProperty(buildAgent), nullValue());
+    }
+    
+    @Test
+    public void localPropertyShouldOverrideRules() throws Exception {
+        OwnershipPluginConfigurer.forJenkinsRule(j)
+                .withNodeOwnershipRules(new NodeOwnershipRule(null, null, null, "defaultOwner", null))
+                .configure();
+        
+        DumbSlave agent = j.createSlave();
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(agent).getPrimaryOwnerId(), equalTo("defaultOwner"));
+        
+        NodeOwnerHelper.setOwnership(agent, new OwnershipDescription(true, "localOwner", null));
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(agent).getPrimaryOwnerId(), equalTo("localOwner"));
+    }
+    
+    @Test
+    public void shouldApplyRuleChanges() throws Exception {
+        OwnershipPluginConfigurer.forJenkinsRule(j)
+                .withNodeOwnershipRules(new NodeOwnershipRule("linux", null, null, "oldOwner", null))
+                .configure();
+        DumbSlave agent = j.createSlave("agent", "linux", null);
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(agent).getPrimaryOwnerId(), equalTo("oldOwner"));
+        
+        OwnershipPluginConfigurer.forJenkinsRule(j)
+                .withNodeOwnershipRules(new NodeOwnershipRule("linux", null, null, "newOwner", null))
+                .configure();
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(agent).getPrimaryOwnerId(), equalTo("newOwner"));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.nodes;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.ComputerOwnerHelper;
+import com.synopsys.arc.jenkins.plugins.ownership.nodes.NodeOwnerHelper;
+import hudson.model.Computer;
+import hudson.model.Node;
+import hudson.slaves.DumbSlave;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.ownership.model.OwnershipChangeListener;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link NodeOwnershipTable}.
+ */
+public class NodeOwnershipTableTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldFollowNodeRenames() throws Exception {
+        DumbSlave node = j.createSlave("agent", null, null);
+        NodeOwnerHelper.setOwnership(node, new OwnershipDescription(true, "owner", null));
+        Computer computer = node.toComputer();
+        assertThat(ComputerOwnerHelper.getInstance().getOwnershipDescription(computer).getPrimaryOwnerId(), 
+                equalTo("owner"));
+        
+        String xml = Jenkins.XSTREAM2.toXML(node).replace("<name>agent</name>", "<name>renamed</name>");
+        computer.updateByXml(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        
+        Computer renamed = j.jenkins.getComputer("renamed");
+        assertThat(renamed, notNullValue());
+        assertThat("Ownership should be retained after the rename",
+                ComputerOwnerHelper.getInstance().getOwnershipDescription(renamed).getPrimaryOwnerId(), 
+                equalTo("owner"));
+        assertThat("Node should be resolved from the registry", 
+                NodeOwnershipTable.get().getNode(renamed), sameInstance(j.jenkins.getNode("renamed")));
+        assertThat(NodeOwnerHelper.getOwnerProperty(j.jenkins.getNode("renamed")).getNode(), 
+                sameInstance(j.jenkins.getNode("renamed")));
+    }
+    
+    @Test
+    public void shouldUpdateOwnershipOnPropertyChange() throws Exception {
+        DumbSlave node = j.createSlave();
+        NodeOwnerHelper.setOwnership(node, new OwnershipDescription(true, "owner", null));
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(node).getPrimaryOwnerId(), equalTo("owner"));
+        
+        NodeOwnerHelper.setOwnership(node, new OwnershipDescription(true, "newOwner", null));
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(node).getPrimaryOwnerId(), equalTo("newOwner"));
+        assertThat(NodeOwnerHelper.Instance.getOwnershipInfo(node).getDescription().getPrimaryOwnerId(), 
+                equalTo("newOwner"));
+        
+        j.jenkins.removeNode(node);
+        assertThat(NodeOwnerHelper.Instance.getOwnershipDescription(j.jenkins.getNode(node.getNodeName())), 
+                equalTo(OwnershipDescription.DISABLED_DESCR));
+    }
+    
+    @Test
+    public void shouldKeepNodesAfterReset() throws Exception {
+        DumbSlave node = j.createSlave("agent", null, null);
+        NodeOwnerHelper.setOwnership(node, new OwnershipDescription(true, "owner", null));
+        NodeOwnershipTable table = NodeOwnershipTable.get();
+        assertThat(table.isRegistered(node), equalTo(true));
+        assertThat(table.isRegistered(j.jenkins), equalTo(true));
+        
+        OwnershipChangeListener.fireReset();
+        assertThat("Node should be still served from the table", table.isRegistered(node), equalTo(true));
+        assertThat(table.isRegistered(j.jenkins), equalTo(true));
+        assertThat(table.get(node.toComputer()).getPrimaryOwnerId(), equalTo("owner"));
+        
+        j.jenkins.save();
+        assertThat(table.isRegistered(node), equalTo(true));
+    }
+    
+    @Test
+    public void detachedCopiesShouldNotReplaceRegisteredNodes() throws Exception {
+        DumbSlave node = j.createSlave("agent", null, null);
+        NodeOwnerHelper.setOwnership(node, new OwnershipDescription(true, "owner", null));
+        
+        // Deserialized copy, which has not been added to Jenkins
+        String xml = Jenkins.XSTREAM2.toXML(node).replace("<primaryOwnerId>owner</primaryOwnerId>", 
+                "<primaryOwnerId>intruder</primaryOwnerId>");
+        Node copy = (Node) Jenkins.XSTREAM2.fromXML(xml);
+        assertThat(NodeOwnershipTable.get().getOwnership(copy).getPrimaryOwnerId(), equalTo("intruder"));
+        
+        Computer computer = node.toComputer();
+        assertThat("Registered node should be still used", 
+                NodeOwnershipTable.get().get(computer).getPrimaryOwnerId(), equalTo("owner"));
+        assertThat(NodeOwnershipTable.get().getNode(computer), sameInstance(j.jenkins.getNode("agent")));
+    }
+}
@@ -34,6 +34,7 @@ import hudson.model.User;
 import java.util.Arrays;
 import java.util.Collections;
 import org.jenkinsci.plugins.ownership.config.DisplayOptions;
+import org.jenkinsci.plugins.ownership.config.InheritanceOptions;
 import org.jenkinsci.plugins.ownership.test.util.OwnershipPluginConfigurer;
 import org.junit.Rule;
 import org.junit.Test;
@@ -124,6 +125,35 @@ public class RunOwnershipActionTest {
                 stringContainsInOrder(Arrays.asList(user.getId())));
     }
     
+    @Test
+    public void shouldKeepOwnershipSnapshotIfConfigured() throws Exception {
+        OwnershipPluginConfigurer.forJenkinsRule(jenkinsRule)
+                .withInheritanceOptions(new InheritanceOptions(false, true))
+                .configure();
+        
+        FreeStyleProject project = jenkinsRule.createFreeStyleProject();
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "ownerAtBuildTime", Arrays.asList("coowner")));
+        FreeStyleBuild build = jenkinsRule.buildAndAssertSuccess(project);
+        FreeStyleBuild anotherBuild = jenkinsRule.buildAndAssertSuccess(project);
+        assertThat("Runs with the same ownership should share the snapshot",
+                RunOwnershipHelper.getOwnershipSnapshot(anotherBuild), 
+                sameInstance(RunOwnershipHelper.getOwnershipSnapshot(build)));
+        
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "newOwner", null));
+        assertThat("Run should keep the ownership at the build time",
+                RunOwnershipHelper.getInstance().getOwnershipDescription(build).getPrimaryOwnerId(), 
+                equalTo("ownerAtBuildTime"));
+        
+        // Reload the build record
+        project.getBuildByNumber(build.getNumber()).reload();
+        assertThat(RunOwnershipHelper.getInstance().getOwnershipDescription(build), 
+                equalTo(new OwnershipDescription(true, "ownerAtBuildTime", Arrays.asList("coowner"))));
+        
+        FreeStyleBuild newBuild = jenkinsRule.buildAndAssertSuccess(project);
+        assertThat(RunOwnershipHelper.getInstance().getOwnershipDescription(newBuild).getPrimaryOwnerId(), 
+                equalTo("newOwner"));
+    }
+    
     @Test
     @Issue("JENKINS-28714")
     public void shouldHideRunOwnershipIfRequested() throws Exception {
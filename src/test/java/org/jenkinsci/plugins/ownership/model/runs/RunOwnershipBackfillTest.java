@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.model.runs;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import java.util.Arrays;
+import java.util.Date;
+import org.jenkinsci.plugins.ownership.config.InheritanceOptions;
+import org.jenkinsci.plugins.ownership.test.util.OwnershipPluginConfigurer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link RunOwnershipBackfill}.
+ */
+public class RunOwnershipBackfillTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldCoverBuildsWithoutActions() throws Exception {
+        OwnershipPluginConfigurer.forJenkinsRule(j)
+                .withInheritanceOptions(new InheritanceOptions(false, true))
+                .configure();
+        FreeStyleProject project = j.createFreeStyleProject("project");
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "owner", Arrays.asList("coowner")));
+        
+        // Emulate a build, which has been created before the plugin installation
+        FreeStyleBuild build = j.buildAndAssertSuccess(project);
+        build.removeActions(RunOwnershipAction.class);
+        build.save();
+        assertThat(build.getAction(RunOwnershipAction.class), nullValue());
+        
+        RunOwnershipBackfill backfill = RunOwnershipBackfill.get();
+        assertThat("The build should be backfilled", backfill.backfill(project), equalTo(true));
+        assertThat("Covered jobs should be skipped", backfill.backfill(project), equalTo(false));
+        
+        OwnershipDescription newOwnership = new OwnershipDescription(true, "newOwner", null);
+        JobOwnerHelper.setOwnership(project, newOwnership);
+        RunOwnershipAction action = build.getAction(RunOwnershipAction.class);
+        assertThat("The backfilled action should be provided", action, notNullValue());
+        assertThat("Ownership at the build time is unknown", action.getOwnershipSnapshot(), nullValue());
+        assertThat("The build should inherit the current ownership of the job", 
+                RunOwnershipHelper.getInstance().getOwnershipDescription(build), equalTo(newOwnership));
+        
+        FreeStyleBuild newBuild = j.buildAndAssertSuccess(project);
+        assertThat("New builds should not be covered by the record",
+                backfill.getRecord(project).getLastBuildNumber(), lessThan(newBuild.getNumber()));
+    }
+    
+    @Test
+    public void shouldResumeFromCheckpointAfterStop() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            j.buildAndAssertSuccess(j.createFreeStyleProject("project" + i));
+        }
+        
+        final int jobsPerSecond = RunOwnershipBackfill.JOBS_PER_SECOND;
+        RunOwnershipBackfill.JOBS_PER_SECOND = 5;
+        try {
+            RunOwnershipBackfill backfill = RunOwnershipBackfill.get();
+            backfill.start();
+            while (backfill.getProcessedJobs() < 1) {
+                Thread.sleep(10);
+            }
+            backfill.stop();
+            final Date startedAt = backfill.getStartedAt();
+            final String checkpoint = backfill.getCheckpoint();
+            final long processedJobs = backfill.getProcessedJobs();
+            assertThat(checkpoint, notNullValue());
+            
+            backfill.start();
+            assertThat("Progress should be retained", backfill.getStartedAt(), equalTo(startedAt));
+            assertThat(backfill.getProcessedJobs(), greaterThanOrEqualTo(processedJobs));
+            while (backfill.getCompletedAt() == null) {
+                Thread.sleep(10);
+            }
+            assertThat("Every job should be processed once", backfill.getProcessedJobs(), equalTo(4L));
+            assertThat(backfill.getCheckpoint(), nullValue());
+            
+            backfill.start();
+            assertThat("Completed backfill should start from the first job", 
+                    backfill.getStartedAt(), not(equalTo(startedAt)));
+            assertThat(backfill.getCompletedAt(), nullValue());
+        } finally {
+            RunOwnershipBackfill.JOBS_PER_SECOND = jobsPerSecond;
+        }
+    }
+}
@@ -29,10 +29,13 @@ import com.synopsys.arc.jenkins.plugins.ownership.extensions.ItemOwnershipPolicy
 import com.synopsys.arc.jenkins.plugins.ownership.extensions.item_ownership_policy.DropOwnershipPolicy;
 import com.synopsys.arc.jenkins.plugins.ownership.security.itemspecific.ItemSpecificSecurity;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import javax.annotation.Nonnull;
 import jenkins.model.Jenkins;
 import org.jenkinsci.plugins.ownership.config.DisplayOptions;
 import org.jenkinsci.plugins.ownership.config.InheritanceOptions;
+import org.jenkinsci.plugins.ownership.config.NodeOwnershipRule;
 import org.jenkinsci.plugins.ownership.util.environment.EnvSetupOptions;
 import org.jenkinsci.plugins.ownership.util.mail.MailOptions;
 import org.jvnet.hudson.test.JenkinsRule;
@@ -53,6 +56,7 @@ public class OwnershipPluginConfigurer {
     private DisplayOptions displayOptions;
     private EnvSetupOptions globalEnvSetupOptions;
     private InheritanceOptions inheritanceOptions;
+    private List<NodeOwnershipRule> nodeOwnershipRules;
       
     private OwnershipPluginConfigurer(Jenkins jenkins) {
         this.jenkins = jenkins;
@@ -108,9 +112,15 @@ public class OwnershipPluginConfigurer {
         return this;
     }
     
+    public OwnershipPluginConfigurer withNodeOwnershipRules(NodeOwnershipRule ... nodeOwnershipRules) {
+        this.nodeOwnershipRules = Arrays.asList(nodeOwnershipRules);
+        return this;
+    }
+    
     public void configure() throws IOException {
         OwnershipPluginConfiguration conf = new OwnershipPluginConfiguration
-                (itemOwnershipPolicy, mailOptions, globalEnvSetupOptions, displayOptions, inheritanceOptions);
+                (itemOwnershipPolicy, mailOptions, globalEnvSetupOptions, displayOptions, inheritanceOptions,
+                 nodeOwnershipRules);
         
         // Get plugin - if it's null, that's a test setup problem and should fail immediately
         OwnershipPlugin plugin = jenkins.getPlugin(OwnershipPlugin.class);
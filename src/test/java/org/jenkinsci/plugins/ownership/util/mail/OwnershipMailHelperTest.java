@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.util.mail;
+
+import com.synopsys.arc.jenkins.plugins.ownership.OwnershipDescription;
+import com.synopsys.arc.jenkins.plugins.ownership.jobs.JobOwnerHelper;
+import hudson.model.FreeStyleProject;
+import hudson.model.User;
+import hudson.tasks.Mailer;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import org.htmlunit.Page;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link OwnershipMailHelper}.
+ */
+public class OwnershipMailHelperTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void lazyMailToShouldResolveAddressesOnColdCache() throws Exception {
+        User.getById("owner", true).addProperty(new Mailer.UserProperty("owner@example.com"));
+        User.getById("coowner", true).addProperty(new Mailer.UserProperty("coowner@example.com"));
+        FreeStyleProject project = j.createFreeStyleProject();
+        JobOwnerHelper.setOwnership(project, new OwnershipDescription(true, "owner", Arrays.asList("coowner")));
+        EmailAddressCache.get().invalidateAll();
+        
+        JenkinsRule.WebClient wc = j.createWebClient();
+        wc.getOptions().setRedirectEnabled(false);
+        wc.setThrowExceptionOnFailingStatusCode(false);
+        Page page = wc.goTo("plugin/ownership/mailTo?mode=ContactOwners&target=" 
+                + URLEncoder.encode("item:" + project.getFullName(), "UTF-8"), null);
+        
+        assertThat(page.getWebResponse().getStatusCode(), equalTo(302));
+        String location = page.getWebResponse().getResponseHeaderValue("Location");
+        assertThat(location, startsWith("mailto:owner%40example.com"));
+        assertThat("Co-owners should be resolved as well", location, containsString("coowner%40example.com"));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.util.users;
+
+import hudson.model.FreeStyleProject;
+import hudson.model.Item;
+import hudson.model.User;
+import java.util.ArrayList;
+import java.util.List;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.htmlunit.FailingHttpStatusCodeException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockAuthorizationStrategy;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link PossibleOwnersSearch}.
+ */
+public class PossibleOwnersSearchTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void shouldMatchPrefixesOfIdsAndFullNames() throws Exception {
+        User.getById("jdoe", true).setFullName("Zed Doe");
+        User.getById("alice", true).setFullName("Alice Smith");
+        User.getById("bob", true).setFullName("Bob Jones");
+        UserIndex.get().invalidate();
+        
+        FreeStyleProject project = j.createFreeStyleProject();
+        PossibleOwnersSearch search = PossibleOwnersSearch.get();
+        
+        assertThat(ids(search.search(project, null, "ali", 0, 10)), contains("alice"));
+        assertThat(ids(search.search(project, null, "ZED", 0, 10)), contains("jdoe"));
+        assertThat(ids(search.search(project, null, "b", 0, 10)), contains("bob"));
+        assertThat(ids(search.search(project, null, "nobody", 0, 10)), empty());
+    }
+    
+    @Test
+    public void shouldPaginateAndCheckPermissions() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            User.getById("user" + i, true);
+        }
+        User.getById("viewer", true);
+        UserIndex.get().invalidate();
+        
+        FreeStyleProject project = j.createFreeStyleProject();
+        j.jenkins.setSecurityRealm(j.createDummySecurityRealm());
+        MockAuthorizationStrategy strategy = new MockAuthorizationStrategy()
+                .grant(Jenkins.READ).everywhere().toEveryone();
+        for (int i = 0; i < 5; i++) {
+            strategy.grant(Item.CONFIGURE).onItems(project).to("user" + i);
+        }
+        j.jenkins.setAuthorizationStrategy(strategy);
+        
+        PossibleOwnersSearch search = PossibleOwnersSearch.get();
+        PossibleOwnersSearch.Page first = search.search(project, Item.CONFIGURE, "user", 0, 3);
+        assertThat(ids(first), contains("user0", "user1", "user2"));
+        assertThat(first.isHasMore(), equalTo(true));
+        
+        PossibleOwnersSearch.Page second = search.search(project, Item.CONFIGURE, "user", first.getNextOffset(), 3);
+        assertThat(ids(second), contains("user3", "user4"));
+        assertThat(second.isHasMore(), equalTo(false));
+        
+        assertThat("Users without the permission should be filtered out",
+                ids(search.search(project, Item.CONFIGURE, "viewer", 0, 10)), empty());
+    }
+    
+    @Test
+    public void shouldRejectUsersOutsidePossibleOwners() throws Exception {
+        User.getById("owner", true);
+        User.getById("viewer", true);
+        
+        FreeStyleProject project = j.createFreeStyleProject();
+        j.jenkins.setSecurityRealm(j.createDummySecurityRealm());
+        j.jenkins.setAuthorizationStrategy(new MockAuthorizationStrategy()
+                .grant(Jenkins.READ).everywhere().toEveryone()
+                .grant(Item.CONFIGURE).onItems(project).to("owner"));
+        
+        PossibleOwnersSearch search = PossibleOwnersSearch.get();
+        assertThat(search.isPossibleOwner(project, Item.CONFIGURE, "owner"), equalTo(true));
+        assertThat(search.isPossibleOwner(project, Item.CONFIGURE, "viewer"), equalTo(false));
+        assertThat("Any existing user can own the item without restrictions", 
+                search.isPossibleOwner(project, null, "viewer"), equalTo(true));
+        assertThat("Unknown users cannot be owners", 
+                search.isPossibleOwner(project, null, "nobody"), equalTo(false));
+    }
+    
+    @Test
+    public void possibleOwnersEndpointShouldPaginate() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            User.getById("user" + i, true);
+        }
+        User.getById("viewer", true);
+        UserIndex.get().invalidate();
+        
+        FreeStyleProject project = j.createFreeStyleProject("project");
+        j.jenkins.setSecurityRealm(j.createDummySecurityRealm());
+        j.jenkins.setAuthorizationStrategy(new MockAuthorizationStrategy()
+                .grant(Jenkins.ADMINISTER).everywhere().to("user0")
+                .grant(Jenkins.READ, Item.READ).everywhere().to("viewer"));
+        
+        JenkinsRule.WebClient wc = j.createWebClient().login("user0");
+        JSONObject first = possibleOwners(wc, "user", 0, 3);
+        assertThat(ids(first), contains("user0", "user1", "user2"));
+        assertThat(first.getBoolean("hasMore"), equalTo(true));
+        
+        JSONObject second = possibleOwners(wc, "user", first.getInt("nextOffset"), 3);
+        assertThat(ids(second), contains("user3", "user4"));
+        assertThat(second.getBoolean("hasMore"), equalTo(false));
+        
+        try {
+            possibleOwners(j.createWebClient().login("viewer"), "user", 0, 3);
+            throw new AssertionError("Users without the ownership management permission should be rejected");
+        } catch (FailingHttpStatusCodeException ex) {
+            assertThat(ex.getStatusCode(), equalTo(403));
+        }
+    }
+    
+    private static JSONObject possibleOwners(JenkinsRule.WebClient wc, String query, int offset, int limit) 
+            throws Exception {
+        return JSONObject.fromObject(wc.goTo("job/project/ownership/possibleOwners?q=" + query 
+                + "&offset=" + offset + "&limit=" + limit, "application/json").getWebResponse().getContentAsString());
+    }
+    
+    private static List<String> ids(JSONObject page) {
+        List<String> res = new ArrayList<>();
+        JSONArray users = page.getJSONArray("users");
+        for (int i = 0; i < users.size(); i++) {
+            res.add(users.getJSONObject(i).getString("id"));
+        }
+        return res;
+    }
+    
+    private static List<String> ids(PossibleOwnersSearch.Page page) {
+        List<String> res = new ArrayList<>();
+        for (User user : page.getUsers()) {
+            res.add(user.getId());
+        }
+        return res;
+    }
+}
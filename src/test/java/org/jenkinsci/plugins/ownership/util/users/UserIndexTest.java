@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Jenkins project contributors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.ownership.util.users;
+
+import hudson.model.User;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests of {@link UserIndex}.
+ */
+public class UserIndexTest {
+    
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+    
+    @Test
+    public void snapshotShouldBeUpdatedIncrementally() throws Exception {
+        User.getById("bob", true).setFullName("Bob");
+        User.getById("carol", true).setFullName("Carol");
+        UserIndex index = UserIndex.get();
+        index.invalidate();
+        UserIndex.Snapshot initial = index.getSnapshot();
+        assertThat(ids(initial.getUsers()), contains("bob", "carol"));
+        
+        User.getById("alice", true).setFullName("Alice");
+        assertThat("New user should be inserted in the name order", 
+                ids(index.getSnapshot().getUsers()), contains("alice", "bob", "carol"));
+        
+        User.getById("bob", false).setFullName("Zed");
+        assertThat("Renamed user should be moved", 
+                ids(index.getSnapshot().getUsers()), contains("alice", "carol", "bob"));
+        assertThat(ids(index.getSnapshot().search("ze")), contains("bob"));
+        assertThat(ids(index.getSnapshot().search("b")), contains("bob"));
+        
+        User.getById("carol", false).delete();
+        assertThat(ids(index.getSnapshot().getUsers()), contains("alice", "bob"));
+        assertThat(ids(initial.getUsers()), contains("bob", "carol"));
+    }
+    
+    private static List<String> ids(List<User> users) {
+        List<String> res = new ArrayList<>();
+        for (User user : users) {
+            res.add(user.getId());
+        }
+        return res;
+    }
+}